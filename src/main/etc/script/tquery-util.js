@@ -150,3 +150,384 @@
         }
     });
 })(tQuery);
+
+(function(tQuery) {
+    var escapes = {'"': '\\"', '\\': '\\\\', '\b': '\\b', '\f': '\\f', '\n': '\\n', '\r': '\\r', '\t': '\\t'};
+
+    function quote(value) {
+        return '"' + value.replace(/[\\"\x00-\x1f\u2028\u2029]/g, function(c) {
+            return escapes[c] || '\\u' + ('0000' + c.charCodeAt(0).toString(16)).slice(-4);
+        }) + '"';
+    }
+
+    // Encodes the results sent back to the evaluator : strings, numbers, booleans, arrays and plain objects.
+    // undefined and null are both encoded as null.
+    tQuery.toJSON = function(value) {
+        if (value === null || value === undefined)
+            return 'null';
+
+        if (typeof value == 'string')
+            return quote(value);
+
+        if (typeof value == 'number')
+            return isFinite(value) ? String(value) : 'null';
+
+        if (typeof value == 'boolean')
+            return String(value);
+
+        var parts = [];
+        if (Object.prototype.toString.call(value) == '[object Array]') {
+            for (var i = 0; i < value.length; i++) {
+                parts.push(tQuery.toJSON(value[i]));
+            }
+            return '[' + parts.join(',') + ']';
+        }
+        for (var key in value) {
+            if (value.hasOwnProperty(key)) {
+                parts.push(quote(key) + ':' + tQuery.toJSON(value[key]));
+            }
+        }
+        return '{' + parts.join(',') + '}';
+    };
+})(tQuery);
+
+(function(tQuery) {
+    function element(id) {
+        return tQuery(document.getElementById(id));
+    }
+
+    var generated = 0;
+
+    // Gives an id to an element without one : the ids are short, unique in the page and follow the document order
+    // of the first reads. The ids given by the page are never changed
+    function identify(el) {
+        if (!el.id) {
+            var id;
+            do {
+                id = '_t' + (++generated);
+            } while (document.getElementById(id));
+            el.id = id;
+        }
+        return el.id;
+    }
+
+    // Fires an html event (input, change, focus, blur) on the element : no event is fired where it is not supported
+    function dispatch(el, type, bubbles) {
+        if (tQuery.isFunction(document.createEvent)) {
+            var evt = document.createEvent('HTMLEvents');
+            evt.initEvent(type, bubbles, false);
+            el.dispatchEvent(evt);
+        } else if (el.fireEvent && type != 'input') {
+            el.fireEvent('on' + type, document.createEventObject());
+        }
+    }
+
+    // Named operations called by the evaluator with JSON literal arguments : elements are resolved by id
+    // with getElementById so ids never have to be escaped in a selector.
+    tQuery.ops = {
+        check: function(id) {
+            if (!document.getElementById(id))
+                throw 'Cannot find component with id=' + id;
+        },
+
+        attr: function(id, name) {
+            return element(id).attr(name);
+        },
+
+        prop: function(id, name) {
+            return element(id).prop(name);
+        },
+
+        // values of several attributes read with the given accessors : attributes(id, 'prop', 'name', 'attr', 'style', ...)
+        attributes: function(id) {
+            var el = element(id), values = [];
+            for (var i = 1; i + 1 < arguments.length; i += 2) {
+                values.push(el[arguments[i]](arguments[i + 1]));
+            }
+            return values;
+        },
+
+        text: function(id) {
+            return tQuery.trim(element(id).text().replace(/\s+/g, ' '));
+        },
+
+        visible: function(id) {
+            return (tQuery.ops.state(id) & 2) != 0;
+        },
+
+        htmlType: function(id) {
+            return element(id).htmlType();
+        },
+
+        componentType: function(id) {
+            return element(id).componentType();
+        },
+
+        // bit field : 1 = present, 2 = visible, 4 = enabled, 8 = readonly, 16 = checked, 32 = selected,
+        // 64 = focused. 0 when the element is not in the page
+        state: function(id) {
+            var dom = document.getElementById(id), el = tQuery(dom), style;
+            if (!dom)
+                return 0;
+            style = window.getComputedStyle ? window.getComputedStyle(dom, null) : dom.currentStyle;
+            return 1 | (el.is(':visible') && (!style || style.visibility != 'hidden') ? 2 : 0) | (el.is(':disabled') ? 0 : 4)
+                | (el.prop('readonly') == true ? 8 : 0) | (dom.checked === true ? 16 : 0) | (dom.selected === true ? 32 : 0)
+                | (dom === document.activeElement ? 64 : 0);
+        },
+
+        // [[id, htmlType], ...] of the elements matching the selector, an id being given to the elements without one
+        elements: function(selector) {
+            var elements = [];
+            tQuery(selector).each(function() {
+                elements.push([this.id || identify(this), tQuery(this).htmlType()]);
+            });
+            return elements;
+        },
+
+        // option model of a select or an option group :
+        // [[[id, value, text, label, selected, disabled, group id], ...], [group id, ...]]
+        options: function(id) {
+            tQuery.ops.check(id);
+            var container = element(id), options = [], groups = [];
+            container.find('optgroup').each(function() {
+                groups.push(this.id || identify(this));
+            });
+            container.find('option').each(function() {
+                var parent = this.parentNode;
+                options.push([this.id || identify(this), this.value, tQuery.trim(tQuery(this).text().replace(/\s+/g, ' ')),
+                    this.label == null ? '' : this.label, this.selected === true, this.disabled === true,
+                    parent && parent.nodeName.toLowerCase() == 'optgroup' ? parent.id || identify(parent) : '']);
+            });
+            return [options, groups];
+        },
+
+        // snapshot of the table holding the element with the given id (the table itself, a row or a header) :
+        // [[[thId, text], ...], [[trId, [[tdId, text], ...]], ...]] with the headers of the last row of the thead
+        table: function(id) {
+            tQuery.ops.check(id);
+            var table = element(id).closest('table'), headers = [], rows = [];
+            function cells(row, selector) {
+                var result = [];
+                tQuery(row).find(selector).each(function() {
+                    result.push([this.id || identify(this), tQuery.trim(tQuery(this).text().replace(/\s+/g, ' '))]);
+                });
+                return result;
+            }
+            table.find('thead tr').last().each(function() {
+                headers = cells(this, 'th');
+            });
+            table.find('tbody tr').each(function() {
+                rows.push([this.id || identify(this), cells(this, 'td')]);
+            });
+            return [headers, rows];
+        },
+
+        // page of the elements matching the selector in the element with the given id : [total, [[id, htmlType], ...]]
+        // with at most count elements from the given index. There is no element when the container is missing
+        range: function(id, selector, from, count) {
+            var elements = element(id).find(selector), page = [];
+            for (var i = from; i < elements.length && i < from + count; i++) {
+                page.push([elements[i].id || identify(elements[i]), tQuery(elements[i]).htmlType()]);
+            }
+            return [elements.length, page];
+        },
+
+        // text of the label of the element with the given id, looked up in turn : the label for the element, the
+        // label just before it, then its parent. Empty if there is none
+        label: function(id) {
+            var el = element(id), labels = document.getElementsByTagName('label'), label = tQuery([]);
+            for (var i = 0; i < labels.length && !label.length; i++) {
+                if (labels[i].htmlFor == id)
+                    label = tQuery(labels[i]);
+            }
+            if (!label.length)
+                label = el.prev('label');
+            if (!label.length)
+                label = el.parent();
+            return label.length ? tQuery.trim(label.text().replace(/\s+/g, ' ')) : '';
+        },
+
+        // source of the icon of the element with the given id : its own for an image input, the one of its first
+        // image for a button. Empty if there is none
+        icon: function(id) {
+            var el = element(id), icon = el.is('button') ? el.find('img').first() : el.is('input') ? el : tQuery([]);
+            return icon.length && icon.attr('src') != null ? icon.attr('src') : '';
+        },
+
+        // ids of the elements in the container with the given id among the given ones :
+        // contained(containerId, id, id, ...). None when the container is not in the page
+        contained: function(id) {
+            var container = document.getElementById(id), contained = [];
+            for (var i = 1; container && i < arguments.length; i++) {
+                var el = document.getElementById(arguments[i]);
+                while (el && el !== container) {
+                    el = el.parentNode;
+                }
+                if (el && arguments[i] != id)
+                    contained.push(arguments[i]);
+            }
+            return contained;
+        },
+
+        // sets the selection of the options matching each given text (or value when no text matches) : all the
+        // options sharing a text are changed. select(id, true, 'UK', 'Italy') gives the number of matching options
+        select: function(id, selected) {
+            var select = element(id), options = select.find('option').get(), count = 0, i, j;
+            for (i = 2; i < arguments.length; i++) {
+                var matches = [];
+                for (j = 0; j < options.length; j++) {
+                    if (tQuery.trim(tQuery(options[j]).text()) == arguments[i])
+                        matches.push(options[j]);
+                }
+                if (!matches.length) {
+                    for (j = 0; j < options.length; j++) {
+                        if (options[j].value == arguments[i])
+                            matches.push(options[j]);
+                    }
+                }
+                for (j = 0; j < matches.length; j++) {
+                    count++;
+                    if (selected) {
+                        tQuery(matches[j]).prop('selected', 'selected');
+                        // Use fix for IE
+                        select.simulate(tQuery.browser.msie ? 'click' : 'change');
+                    } else if (matches[j].selected) {
+                        tQuery(matches[j]).prop('selected', false);
+                        select.simulate('change');
+                    }
+                }
+            }
+            return count;
+        },
+
+        // unselects all the selected options and gives their number
+        unselectAll: function(id) {
+            var select = element(id), count = 0;
+            select.find('option').each(function() {
+                if (this.selected) {
+                    tQuery(this).prop('selected', false);
+                    select.simulate('change');
+                    count++;
+                }
+            });
+            return count;
+        },
+
+        // types the text in the element with the given id, or in the document when the id is null : each character
+        // (a surrogate pair being one character) gets keydown, keypress, input and keyup events and is added to the
+        // value unless keydown or keypress are cancelled. modifiers is a bit field (1 = ctrl, 2 = shift, 4 = alt)
+        // and codes the comma separated key codes of the characters for keydown and keyup, 0 to use the character
+        // code. Gives the final value of the element
+        type: function(id, text, modifiers, codes) {
+            var target = id == null ? document : document.getElementById(id),
+                simulate = tQuery.simulate.prototype, keys = codes ? codes.split(',') : [], count = 0;
+            if (!target)
+                throw 'Cannot find component with id=' + id;
+            var field = target != document && 'value' in target;
+            function fire(type, options) {
+                var evt = simulate.keyboardEvent(type, tQuery.extend({ctrlKey: (modifiers & 1) != 0,
+                    shiftKey: (modifiers & 2) != 0, altKey: (modifiers & 4) != 0}, options));
+                simulate.dispatchEvent(target, type, evt);
+                return !evt.defaultPrevented && evt.returnValue !== false && !(evt.getPreventDefault && evt.getPreventDefault());
+            }
+            for (var i = 0; i < text.length; i++, count++) {
+                var c = text.charAt(i), code = text.charCodeAt(i);
+                if (code >= 0xD800 && code <= 0xDBFF && i + 1 < text.length) {
+                    c += text.charAt(++i);
+                    code = (code - 0xD800) * 0x400 + text.charCodeAt(i) - 0xDC00 + 0x10000;
+                }
+                var key = Number(keys[count]) || code, typed = fire('keydown', {keyCode: key});
+                typed = fire('keypress', {charCode: code}) && typed;
+                if (field && typed && !(target.maxLength >= 0 && target.value.length >= target.maxLength)) {
+                    target.value += c;
+                    dispatch(target, 'input', true);
+                }
+                fire('keyup', {keyCode: key});
+            }
+            return field ? target.value : null;
+        },
+
+        // sets the value of the field with the given id, the text being added to the current value when append is
+        // true : only focus, input, change and blur are fired, without any key event. Gives the final value
+        enter: function(id, text, append) {
+            tQuery.ops.check(id);
+            var field = document.getElementById(id), value = append ? field.value + text : text;
+            dispatch(field, 'focus', false);
+            field.value = field.maxLength >= 0 ? value.substr(0, field.maxLength) : value;
+            dispatch(field, 'input', true);
+            dispatch(field, 'change', true);
+            dispatch(field, 'blur', false);
+            return field.value;
+        },
+
+        // sets the controls of the form with the given id from name (or id) and value pairs : fill(id, 'login', 'bob',
+        // 'remember', 'true', ...). A checkbox is checked by 'true' or by its value, the radio having the value is
+        // checked in its group, the options of a select having the text (or the value) are selected, several
+        // options being separated by new lines, and the other controls get the value. input and change are fired on
+        // the controls changed, as a user would. Gives the number of controls changed
+        fill: function(id) {
+            tQuery.ops.check(id);
+            var form = document.getElementById(id), count = 0;
+            for (var i = 1; i + 1 < arguments.length; i += 2) {
+                var key = arguments[i], value = arguments[i + 1], found = false;
+                for (var j = 0; j < form.elements.length; j++) {
+                    var control = form.elements[j], type = (control.type || '').toLowerCase(), changed = false;
+                    if ((control.name != key && control.id != key) || /^(button|submit|reset|image|file)$/.test(type))
+                        continue;
+                    found = true;
+                    if (type == 'checkbox' || type == 'radio') {
+                        var checked = type == 'checkbox' ? value == 'true' || (value != 'false' && value == control.value) : value == control.value;
+                        // only the radio becoming checked gets a change event
+                        changed = control.checked != checked && (type == 'checkbox' || checked);
+                        control.checked = checked;
+                    } else if (control.options) {
+                        var texts = value.split('\n');
+                        for (var k = 0; k < control.options.length; k++) {
+                            var option = control.options[k], selected = false;
+                            for (var t = 0; t < texts.length && !selected; t++) {
+                                selected = tQuery.trim(tQuery(option).text()) == texts[t] || option.value == texts[t];
+                            }
+                            changed = changed || option.selected != selected;
+                            option.selected = selected;
+                        }
+                    } else if (control.value != value) {
+                        changed = true;
+                        control.value = value;
+                        dispatch(control, 'input', true);
+                    }
+                    if (changed) {
+                        count++;
+                        dispatch(control, 'change', true);
+                    }
+                }
+                if (!found)
+                    throw 'Cannot find field ' + key + ' in form with id=' + id;
+            }
+            return count;
+        },
+
+        // state of the controls of the form with the given id, in the document order :
+        // [[id, name, type, value, checked, [text of the selected options, ...]], ...]
+        formState: function(id) {
+            tQuery.ops.check(id);
+            var form = document.getElementById(id), controls = [];
+            for (var i = 0; i < form.elements.length; i++) {
+                var control = form.elements[i], selected = [];
+                for (var j = 0; control.options && j < control.options.length; j++) {
+                    if (control.options[j].selected)
+                        selected.push(tQuery.trim(tQuery(control.options[j]).text().replace(/\s+/g, ' ')));
+                }
+                controls.push([control.id || identify(control), control.name || '', (control.type || control.nodeName).toLowerCase(),
+                    control.value == null ? '' : control.value, control.checked === true, selected]);
+            }
+            return controls;
+        }
+    };
+})(tQuery);
+
+(function() {
+    // Page generation token : a new random token is stamped each time the helpers are injected in a page.
+    // Every evaluation result is prefixed with it so the evaluator knows when the page under test has changed.
+    // The token is kept when the full tQuery replaces the lite runtime in the same page.
+    window.testatoo_generation = window.testatoo_generation || (Math.random().toString(36).substr(2) + '0000000000').substr(0, 10);
+})();
@@ -0,0 +1,443 @@
+/**
+ * Copyright (C) 2008 Ovea <dev@testatoo.org>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.testatoo.cartridge.html4;
+
+import org.testatoo.cartridge.html4.element.Attribute;
+import org.testatoo.cartridge.html4.element.Form;
+import org.testatoo.cartridge.html4.element.HtmlElementType;
+import org.testatoo.cartridge.html4.element.Option;
+import org.testatoo.cartridge.html4.element.OptionGroup;
+import org.testatoo.cartridge.html4.element.Select;
+import org.testatoo.core.Selection;
+import org.testatoo.core.component.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * This class is an asynchronous facade of an html evaluator : the reads give futures and the test code goes on
+ * while the commands are sent to the browser.
+ * <p/>
+ * The commands are sent in order by a single thread, the UI Test engine sessions being not thread safe.
+ * The reads queued while a command is in flight are sent together in one batch : a test reading many
+ * independent components waits for a few round trips instead of one per read.
+ * <p/>
+ * The commands changing the page (open, submit, reset and any command given to {@link #execute(Runnable)})
+ * are ordering barriers : they run after all the commands queued before them and the commands queued after them
+ * wait for them.
+ * <p/>
+ * The wrapped evaluator must not be used directly while commands are pending : call {@link #await()} first.
+ *
+ * @author dev@testatoo.org
+ */
+public final class AsyncHtmlEvaluator {
+
+    private final HtmlEvaluator<?> evaluator;
+    private final LinkedList<Command<?>> commands = new LinkedList<Command<?>>();
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(new ThreadFactory() {
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "testatoo-async-evaluator");
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+
+    /**
+     * Class constructor specifying the evaluator used to send the commands
+     *
+     * @param evaluator the html evaluator
+     */
+    public AsyncHtmlEvaluator(HtmlEvaluator<?> evaluator) {
+        this.evaluator = evaluator;
+    }
+
+    /**
+     * @see HtmlEvaluator#attribute(String, Attribute)
+     */
+    public Future<String> attribute(final String id, final Attribute attribute) {
+        return queue(new BatchedRead<String>(new Callable<String>() {
+            @Override
+            public String call() {
+                return evaluator.attribute(id, attribute);
+            }
+        }) {
+            @Override
+            Batch.Result<String> in(Batch batch) {
+                return batch.attribute(id, attribute);
+            }
+        });
+    }
+
+    /**
+     * @see HtmlEvaluator#nodeTextContent(Component)
+     */
+    public Future<String> nodeTextContent(final Component component) {
+        return queue(new BatchedRead<String>(new Callable<String>() {
+            @Override
+            public String call() {
+                return evaluator.nodeTextContent(component);
+            }
+        }) {
+            @Override
+            Batch.Result<String> in(Batch batch) {
+                return batch.nodeTextContent(component);
+            }
+        });
+    }
+
+    /**
+     * @see org.testatoo.core.Evaluator#isVisible(Component)
+     */
+    public Future<Boolean> isVisible(final Component component) {
+        return queue(new BatchedRead<Boolean>(new Callable<Boolean>() {
+            @Override
+            public Boolean call() {
+                return evaluator.isVisible(component);
+            }
+        }) {
+            @Override
+            Batch.Result<Boolean> in(Batch batch) {
+                return batch.isVisible(component);
+            }
+        });
+    }
+
+    /**
+     * @see HtmlEvaluator#selected(Option)
+     */
+    public Future<Boolean> selected(final Option option) {
+        return queue(new BatchedRead<Boolean>(new Callable<Boolean>() {
+            @Override
+            public Boolean call() {
+                return evaluator.selected(option);
+            }
+        }) {
+            @Override
+            Batch.Result<Boolean> in(Batch batch) {
+                return batch.selected(option);
+            }
+        });
+    }
+
+    /**
+     * @see HtmlEvaluator#htmlElementType(String)
+     */
+    public Future<HtmlElementType> htmlElementType(final String id) {
+        return queue(new BatchedRead<HtmlElementType>(new Callable<HtmlElementType>() {
+            @Override
+            public HtmlElementType call() {
+                return evaluator.htmlElementType(id);
+            }
+        }) {
+            @Override
+            Batch.Result<HtmlElementType> in(Batch batch) {
+                return batch.htmlElementType(id);
+            }
+        });
+    }
+
+    /**
+     * @see HtmlEvaluator#elementsId(String)
+     */
+    public Future<String[]> elementsId(final String expression) {
+        return read(new Callable<String[]>() {
+            @Override
+            public String[] call() {
+                return evaluator.elementsId(expression);
+            }
+        });
+    }
+
+    /**
+     * @see HtmlEvaluator#options(Select)
+     */
+    public Future<Selection<Option>> options(final Select select) {
+        return read(new Callable<Selection<Option>>() {
+            @Override
+            public Selection<Option> call() {
+                return evaluator.options(select);
+            }
+        });
+    }
+
+    /**
+     * @see HtmlEvaluator#selectedOptions(Select)
+     */
+    public Future<Selection<Option>> selectedOptions(final Select select) {
+        return read(new Callable<Selection<Option>>() {
+            @Override
+            public Selection<Option> call() {
+                return evaluator.selectedOptions(select);
+            }
+        });
+    }
+
+    /**
+     * @see HtmlEvaluator#optionGroups(Select)
+     */
+    public Future<Selection<OptionGroup>> optionGroups(final Select select) {
+        return read(new Callable<Selection<OptionGroup>>() {
+            @Override
+            public Selection<OptionGroup> call() {
+                return evaluator.optionGroups(select);
+            }
+        });
+    }
+
+    /**
+     * @see HtmlEvaluator#content(Component)
+     */
+    public Future<String> content(final Component component) {
+        return read(new Callable<String>() {
+            @Override
+            public String call() {
+                return evaluator.content(component);
+            }
+        });
+    }
+
+    /**
+     * @see HtmlEvaluator#pageSource()
+     */
+    public Future<String> pageSource() {
+        return read(new Callable<String>() {
+            @Override
+            public String call() {
+                return evaluator.pageSource();
+            }
+        });
+    }
+
+    /**
+     * To queue any other read of the page
+     *
+     * @param read the read, done with the wrapped evaluator
+     * @param <T>  the type of the value read
+     * @return the future value
+     */
+    public <T> Future<T> read(Callable<T> read) {
+        return queue(new Command<T>(read));
+    }
+
+    /**
+     * @see HtmlEvaluator#open(String)
+     */
+    public Future<?> open(final String url) {
+        return execute(new Runnable() {
+            @Override
+            public void run() {
+                evaluator.open(url);
+            }
+        });
+    }
+
+    /**
+     * @see HtmlEvaluator#submit(Form)
+     */
+    public Future<?> submit(final Form form) {
+        return execute(new Runnable() {
+            @Override
+            public void run() {
+                evaluator.submit(form);
+            }
+        });
+    }
+
+    /**
+     * @see HtmlEvaluator#reset(Form)
+     */
+    public Future<?> reset(final Form form) {
+        return execute(new Runnable() {
+            @Override
+            public void run() {
+                evaluator.reset(form);
+            }
+        });
+    }
+
+    /**
+     * To queue a command changing the page (a click, a typing...) : it runs once all the commands queued before
+     * are done and the commands queued after it wait for it.
+     *
+     * @param command the command, done with the wrapped evaluator
+     * @return the future completed when the command is done
+     */
+    public Future<?> execute(Runnable command) {
+        return queue(new Command<Object>(Executors.callable(command)));
+    }
+
+    /**
+     * To wait for all the queued commands. The failures are given by the futures of the failed commands.
+     */
+    public void await() {
+        // The commands are done in order : waiting for a barrier queued now means waiting for all of them
+        get(execute(new Runnable() {
+            @Override
+            public void run() {
+            }
+        }));
+    }
+
+    /**
+     * To stop the thread sending the commands once all the queued commands are done
+     */
+    public void shutdown() {
+        worker.shutdown();
+    }
+
+    /**
+     * To get the value of a future given by this evaluator, the failure of the command being rethrown as is
+     *
+     * @param future the future given by this evaluator
+     * @param <T>    the type of the value
+     * @return the value
+     * @throws EvaluatorException if the command failed
+     */
+    public static <T> T get(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EvaluatorException("Interrupted while waiting for an evaluation");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new EvaluatorException(e.getCause().getMessage());
+        }
+    }
+
+    private <T> Future<T> queue(Command<T> command) {
+        synchronized (commands) {
+            commands.add(command);
+        }
+        worker.execute(new Runnable() {
+            @Override
+            public void run() {
+                send();
+            }
+        });
+        return command;
+    }
+
+    /**
+     * To send the next command : the reads queued next to each other are sent in one batch
+     */
+    private void send() {
+        List<Command<?>> reads = new ArrayList<Command<?>>();
+        Command<?> command;
+        synchronized (commands) {
+            command = commands.poll();
+            if (command == null) {
+                // Already sent in the batch of a previous command
+                return;
+            }
+            if (command.batchable()) {
+                reads.add(command);
+                while (!commands.isEmpty() && commands.getFirst().batchable()) {
+                    reads.add(commands.poll());
+                }
+            }
+        }
+        if (reads.size() < 2) {
+            command.run();
+            return;
+        }
+        Batch batch = evaluator.batch();
+        for (Command<?> read : reads) {
+            read.queue(batch);
+        }
+        try {
+            batch.execute();
+        } catch (RuntimeException e) {
+            for (Command<?> read : reads) {
+                read.fail(e);
+            }
+            return;
+        }
+        for (Command<?> read : reads) {
+            read.complete();
+        }
+    }
+
+    private static class Command<T> extends FutureTask<T> {
+
+        private Command(Callable<T> callable) {
+            super(callable);
+        }
+
+        boolean batchable() {
+            return false;
+        }
+
+        void queue(Batch batch) {
+            throw new IllegalStateException("Command cannot be sent in a batch");
+        }
+
+        void complete() {
+        }
+
+        void fail(RuntimeException e) {
+            setException(e);
+        }
+    }
+
+    private abstract static class BatchedRead<T> extends Command<T> {
+
+        private Batch.Result<T> result;
+
+        private BatchedRead(Callable<T> callable) {
+            super(callable);
+        }
+
+        /**
+         * To queue this read in a batch
+         *
+         * @param batch the batch
+         * @return the result of the read
+         */
+        abstract Batch.Result<T> in(Batch batch);
+
+        @Override
+        boolean batchable() {
+            return true;
+        }
+
+        @Override
+        void queue(Batch batch) {
+            result = in(batch);
+        }
+
+        @Override
+        void complete() {
+            try {
+                set(result.get());
+            } catch (RuntimeException e) {
+                setException(e);
+            }
+        }
+    }
+}
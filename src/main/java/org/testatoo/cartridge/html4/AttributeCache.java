@@ -0,0 +1,88 @@
+/**
+ * Copyright (C) 2008 Ovea <dev@testatoo.org>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.testatoo.cartridge.html4;
+
+/**
+ * This interface gives the control of the attribute cache of an evaluator. When enabled, the attributes read
+ * are kept for the page under test : they are read again once the page has changed and once a command
+ * changing the page (click, type, select, submit, reset, drag and drop, open...) has been sent.
+ * <p/>
+ * The pages changing by themselves (timers, ajax calls...) must invalidate the cache or use the strict mode.
+ *
+ * @author dev@testatoo.org
+ * @see HtmlEvaluator#attributeCache()
+ */
+public interface AttributeCache {
+
+    /**
+     * To enable the cache. It is disabled by default.
+     */
+    void enable();
+
+    /**
+     * To disable the cache : the cached attributes are dropped
+     */
+    void disable();
+
+    /**
+     * To know if the cache is enabled
+     *
+     * @return true if the cache is enabled
+     */
+    boolean isEnabled();
+
+    /**
+     * To set the strict mode : the attributes are always read in the browser, the cache being refreshed
+     * with the values read. Useful for the tests polling the page for changes.
+     *
+     * @param strict true to read the attributes in the browser
+     */
+    void strict(boolean strict);
+
+    /**
+     * To know if the strict mode is set
+     *
+     * @return true if the attributes are always read in the browser
+     */
+    boolean isStrict();
+
+    /**
+     * To drop all the cached attributes and html types
+     */
+    void invalidate();
+
+    /**
+     * To drop the cached attributes and html type of the html element with a given id
+     *
+     * @param id the id of the html element
+     */
+    void invalidate(String id);
+
+    /**
+     * To get the number of attributes read from the cache
+     *
+     * @return the number of cache hits
+     */
+    long hits();
+
+    /**
+     * To get the number of attributes read in the browser while the cache is enabled
+     *
+     * @return the number of cache misses
+     */
+    long misses();
+}
@@ -0,0 +1,102 @@
+/**
+ * Copyright (C) 2008 Ovea <dev@testatoo.org>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.testatoo.cartridge.html4;
+
+import org.testatoo.cartridge.html4.element.Attribute;
+import org.testatoo.cartridge.html4.element.HtmlElementType;
+import org.testatoo.cartridge.html4.element.Option;
+import org.testatoo.core.component.Component;
+
+/**
+ * This interface gives the reads that can be queued in a batch. A batch is sent to the browser
+ * in one call when executed (or when the first result is requested) and each read gets its own result :
+ * a read on a missing element fails alone without losing the other results.
+ *
+ * @author dev@testatoo.org
+ * @see HtmlEvaluator#batch()
+ */
+public interface Batch {
+
+    /**
+     * To queue the read of an attribute of the html element with a given id
+     *
+     * @param id        the id of the html element
+     * @param attribute the attribute
+     * @return the result holding the value of the attribute
+     */
+    Result<String> attribute(String id, Attribute attribute);
+
+    /**
+     * To queue the read of the content of a given component
+     *
+     * @param component the given component
+     * @return the result holding the content of the component
+     */
+    Result<String> nodeTextContent(Component component);
+
+    /**
+     * To queue the visibility check of a given component
+     *
+     * @param component the given component
+     * @return the result holding true if the component is visible
+     */
+    Result<Boolean> isVisible(Component component);
+
+    /**
+     * To queue the selection check of a given option
+     *
+     * @param option the given option
+     * @return the result holding true if the option is selected
+     */
+    Result<Boolean> selected(Option option);
+
+    /**
+     * To queue the read of the html type of the element with a given id
+     *
+     * @param id the id of the html element
+     * @return the result holding the html type of the element
+     */
+    Result<HtmlElementType> htmlElementType(String id);
+
+    /**
+     * To send all the queued reads to the browser in one call
+     */
+    void execute();
+
+    /**
+     * The result of a read queued in a batch
+     *
+     * @param <T> the type of the value read
+     */
+    interface Result<T> {
+
+        /**
+         * To get the value read. The batch is executed if not already done.
+         *
+         * @return the value read
+         * @throws EvaluatorException if this read failed in the browser
+         */
+        T get();
+
+        /**
+         * To know if this read failed in the browser. The batch is executed if not already done.
+         *
+         * @return true if the read failed
+         */
+        boolean failed();
+    }
+}
@@ -17,7 +17,11 @@
 package org.testatoo.cartridge.html4;
 
 import com.thoughtworks.selenium.Selenium;
+import org.openqa.selenium.WebDriver;
+import org.testatoo.cartridge.html4.evaluator.ScriptBundle;
+import org.testatoo.cartridge.html4.evaluator.ScriptServer;
 import org.testatoo.cartridge.html4.evaluator.selenium.SeleniumHtmlEvaluator;
+import org.testatoo.cartridge.html4.evaluator.webdriver.WebDriverHtmlEvaluator;
 import org.testatoo.core.CartridgeBootstraper;
 import org.testatoo.core.Evaluator;
 
@@ -28,9 +32,15 @@ public final class Bootstraper implements CartridgeBootstraper {
     @Override
     public Evaluator buildEvaluator(Map<String, ?> params) {
         String name = (String) params.get("name");
+        WebDriver driver = (WebDriver) params.get(WebDriver.class.getName());
+        if (name != null && driver != null) {
+            ScriptBundle.preload();
+            return new WebDriverHtmlEvaluator(name, driver);
+        }
         Selenium session = (Selenium) params.get(Selenium.class.getName());
         if (name != null && session != null) {
-            return new SeleniumHtmlEvaluator(name, session);
+            ScriptBundle.preload();
+            return new SeleniumHtmlEvaluator(name, session, (ScriptServer) params.get(ScriptServer.class.getName()));
         }
         return null;
     }
@@ -20,6 +20,7 @@ import org.testatoo.core.ComponentException;
 import org.testatoo.core.Duration;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import static java.util.concurrent.TimeUnit.*;
@@ -27,13 +28,21 @@ import static org.testatoo.core.Language.max;
 
 public abstract class By {
 
-    public abstract String id(HtmlEvaluator evaluator);
+    public abstract String id(HtmlEvaluator<?> evaluator);
 
-    public abstract String id(HtmlEvaluator evaluator, Duration duration, Duration frequency);
+    public abstract String id(HtmlEvaluator<?> evaluator, Duration duration, Duration frequency);
 
-    public abstract List<String> ids(HtmlEvaluator evaluator);
+    public abstract List<String> ids(HtmlEvaluator<?> evaluator);
 
-    public abstract List<String> ids(HtmlEvaluator evaluator, Duration duration, Duration frequency);
+    public abstract List<String> ids(HtmlEvaluator<?> evaluator, Duration duration, Duration frequency);
+
+    /**
+     * To get the ids of the matching elements currently in the page, without waiting for them
+     *
+     * @param evaluator the evaluator used to look up the elements
+     * @return the ids of the elements, empty if none is in the page
+     */
+    public abstract List<String> find(HtmlEvaluator<?> evaluator);
 
     public abstract String toString();
 
@@ -43,25 +52,30 @@ public abstract class By {
 
         return new By() {
             @Override
-            public String id(HtmlEvaluator evaluator) {
+            public String id(HtmlEvaluator<?> evaluator) {
                 return id(evaluator, new Duration(2000, MILLISECONDS), new Duration(500, MILLISECONDS));
             }
 
             @Override
-            public String id(HtmlEvaluator evaluator, Duration duration, Duration frequency) {
+            public String id(HtmlEvaluator<?> evaluator, Duration duration, Duration frequency) {
                 return waitUntilId(evaluator, id, duration, frequency);
             }
 
             @Override
-            public List<String> ids(HtmlEvaluator evaluator) {
+            public List<String> ids(HtmlEvaluator<?> evaluator) {
                 return ids(evaluator, new Duration(2000, MILLISECONDS), new Duration(500, MILLISECONDS));
             }
 
             @Override
-            public List<String> ids(HtmlEvaluator evaluator, Duration duration, Duration frequency) {
+            public List<String> ids(HtmlEvaluator<?> evaluator, Duration duration, Duration frequency) {
                 return Arrays.asList(waitUntilIds(evaluator, id, duration, frequency));
             }
 
+            @Override
+            public List<String> find(HtmlEvaluator<?> evaluator) {
+                return findIds(evaluator, id);
+            }
+
             @Override
             public String toString() {
                 return "by id=" + id;
@@ -80,25 +94,30 @@ public abstract class By {
         return new By() {
 
             @Override
-            public String id(HtmlEvaluator evaluator) {
+            public String id(HtmlEvaluator<?> evaluator) {
                 return id(evaluator, duration, max(500, MILLISECONDS));
             }
 
             @Override
-            public String id(HtmlEvaluator evaluator, Duration duration, Duration frequency) {
+            public String id(HtmlEvaluator<?> evaluator, Duration duration, Duration frequency) {
                 return waitUntilId(evaluator, "jquery:" + jQueryExpression(), duration, frequency);
             }
 
             @Override
-            public List<String> ids(HtmlEvaluator evaluator) {
+            public List<String> ids(HtmlEvaluator<?> evaluator) {
                 return ids(evaluator, duration, max(500, MILLISECONDS));
             }
 
             @Override
-            public List<String> ids(HtmlEvaluator evaluator, Duration duration, Duration frequency) {
+            public List<String> ids(HtmlEvaluator<?> evaluator, Duration duration, Duration frequency) {
                 return Arrays.asList(waitUntilIds(evaluator, "jquery:" + jQueryExpression(), duration, frequency));
             }
 
+            @Override
+            public List<String> find(HtmlEvaluator<?> evaluator) {
+                return findIds(evaluator, "jquery:" + jQueryExpression());
+            }
+
             @Override
             public String toString() {
                 return "by jQueryExpression=" + jQueryExpression();
@@ -124,7 +143,7 @@ public abstract class By {
         return $(jQueryExpression, duration);
     }
 
-    private static String waitUntilId(HtmlEvaluator evaluator, String expression, Duration duration, Duration frequency) {
+    private static String waitUntilId(HtmlEvaluator<?> evaluator, String expression, Duration duration, Duration frequency) {
         String[] ids = waitUntilIds(evaluator, expression, duration, frequency);
         if (ids.length > 1)
             throw new ComponentException("Find more than one component defined by jQueryExpression=" + expression.substring(7));
@@ -132,7 +151,16 @@ public abstract class By {
             return ids[0];
     }
 
-    private static String[] waitUntilIds(HtmlEvaluator evaluator, String expression, Duration duration, Duration frequency) {
+    private static String[] waitUntilIds(HtmlEvaluator<?> evaluator, String expression, Duration duration, Duration frequency) {
+        // The browser waits for the elements itself when it can : the ids are given as soon as they are in the page
+        String[] ids = evaluator.waitForElementsId(expression, duration.unit.toMillis(duration.duration));
+        if (ids != null) {
+            if (ids.length == 0) {
+                throw notFound(expression);
+            }
+            return ids;
+        }
+
         Throwable ex = null;
         try {
             final long step = frequency.unit.toMillis(frequency.duration);
@@ -150,11 +178,24 @@ public abstract class By {
         }
 
         if (ex instanceof EvaluatorException) {
-            if (expression.startsWith("jquery:"))
-                throw new ComponentException("Cannot find component defined by jQueryExpression=" + expression.substring(7));
-            else
-                throw new ComponentException("Cannot find component defined by id=" + expression);
+            throw notFound(expression);
         }
         throw new RuntimeException("Unable to reach the condition in " + duration.duration + " " + duration.unit, ex);
     }
+
+    private static List<String> findIds(HtmlEvaluator<?> evaluator, String expression) {
+        // A single probe : an absent element is an expected answer, not a reason to wait
+        try {
+            return Arrays.asList(evaluator.elementsId(expression));
+        } catch (EvaluatorException e) {
+            return Collections.emptyList();
+        }
+    }
+
+    private static ComponentException notFound(String expression) {
+        if (expression.startsWith("jquery:"))
+            return new ComponentException("Cannot find component defined by jQueryExpression=" + expression.substring(7));
+        else
+            return new ComponentException("Cannot find component defined by id=" + expression);
+    }
 }
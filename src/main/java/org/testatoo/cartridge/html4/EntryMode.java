@@ -0,0 +1,33 @@
+/**
+ * Copyright (C) 2008 Ovea <dev@testatoo.org>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.testatoo.cartridge.html4;
+
+/**
+ * This enum gives the ways the text of the fields (InputText, InputPassword and TextArea) is entered by an html
+ * Evaluator when typing and resetting.
+ * <ul>
+ * <li>KEYSTROKES : typing fires keydown, keypress, input and keyup for each character, as a user would. Resetting
+ * clears the value without any event</li>
+ * <li>VALUE : the value is set at once and only focus, input, change and blur are fired, for typing and
+ * resetting. Much faster for long texts, but the key handlers of the page are not run</li>
+ * </ul>
+ *
+ * @author dev@testatoo.org
+ */
+public enum EntryMode {
+    KEYSTROKES, VALUE
+}
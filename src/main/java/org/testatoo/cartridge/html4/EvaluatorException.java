@@ -25,4 +25,8 @@ public class EvaluatorException extends RuntimeException {
     public EvaluatorException(String message) {
         super(message);
     }
+
+    public EvaluatorException(String message, Throwable cause) {
+        super(message, cause);
+    }
 }
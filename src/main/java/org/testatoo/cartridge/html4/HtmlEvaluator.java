@@ -16,13 +16,18 @@
 
 package org.testatoo.cartridge.html4;
 
-import com.thoughtworks.selenium.Selenium;
 import org.testatoo.cartridge.html4.element.*;
 import org.testatoo.cartridge.html4.element.Object;
 import org.testatoo.core.Evaluator;
 import org.testatoo.core.Selection;
+import org.testatoo.core.component.AbstractTextField;
 import org.testatoo.core.component.Component;
 import org.testatoo.core.component.Field;
+import org.testatoo.core.component.ListModel;
+import org.testatoo.core.nature.Container;
+
+import java.util.List;
+import java.util.Map;
 
 /**
  * This interface gives the methods that an html Evaluator must have, whatever UI Test engine used
@@ -30,7 +35,7 @@ import org.testatoo.core.component.Field;
  * @author dev@testatoo.org
  */
 
-public interface HtmlEvaluator extends Evaluator<Selenium> {
+public interface HtmlEvaluator<T> extends Evaluator<T> {
 
     /**
      * To get the value of an attribute of the html element with a given id
@@ -41,6 +46,23 @@ public interface HtmlEvaluator extends Evaluator<Selenium> {
      */
     String attribute(String id, Attribute attribute);
 
+    /**
+     * To get the values of several attributes of the html element with a given id in one call
+     *
+     * @param id         the id of the html element
+     * @param attributes the attributes
+     * @return the values of the attributes in the given order, as given by {@link #attribute(String, Attribute)}
+     */
+    Map<Attribute, String> attributes(String id, Attribute... attributes);
+
+    /**
+     * To get the values of all the attributes of the html element with a given id in one call
+     *
+     * @param id the id of the html element
+     * @return the values of all the attributes, as given by {@link #attribute(String, Attribute)}
+     */
+    Map<Attribute, String> attributes(String id);
+
     /**
      * To open the page corresponding to the given url
      *
@@ -63,6 +85,14 @@ public interface HtmlEvaluator extends Evaluator<Selenium> {
      */
     Selection<Option> options(Select select);
 
+    /**
+     * To get the options of a select or of an option group in one call
+     *
+     * @param id the id of the select or of the option group
+     * @return the option model
+     */
+    OptionModel optionModel(String id);
+
     /**
      * To get the option groups in a given select.
      *
@@ -101,7 +131,7 @@ public interface HtmlEvaluator extends Evaluator<Selenium> {
      * @param map the given map
      * @return a list of Areas
      */
-    Selection<Area> areas(Map map);
+    Selection<Area> areas(org.testatoo.cartridge.html4.element.Map map);
 
     /**
      * To know if an option is selected.
@@ -135,6 +165,16 @@ public interface HtmlEvaluator extends Evaluator<Selenium> {
      */
     String label(OptionGroup optionGroup);
 
+    /**
+     * To select in one call the options of a list matching the given values : an option matches a value by its
+     * text, or by its value attribute when no option has this text. All the options sharing a text are selected.
+     *
+     * @param listModel the list (Select or ListBox)
+     * @param values    the texts (or values) of the options to select
+     * @return the number of options matching the given values
+     */
+    int selectAll(ListModel listModel, String... values);
+
     /**
      * To submit a given form.
      *
@@ -149,6 +189,45 @@ public interface HtmlEvaluator extends Evaluator<Selenium> {
      */
     void reset(Form form);
 
+    /**
+     * To set the controls of a given form in one call : the text fields get the values, the checkboxes are checked
+     * by "true" or by their value, the radio having the value is checked in its group and the options of a select
+     * having the text (or the value) are selected, several options being separated by new lines. The controls
+     * changed get input and change events
+     *
+     * @param form   the given form
+     * @param values the values of the controls, keyed by their name or by their id
+     */
+    void fill(Form form, Map<String, String> values);
+
+    /**
+     * To get the value, the checked state and the selected options of all the controls of a given form in one call
+     *
+     * @param form the given form
+     * @return the state of the controls of the form
+     */
+    FormState formState(Form form);
+
+    /**
+     * To get the given components which are not in a given container, in one call
+     *
+     * @param container  the given container
+     * @param components the components we want to know if contained in the container
+     * @return the missing components in the given order, empty if all the components are contained
+     */
+    List<Component> missing(Container container, Component... components);
+
+    /**
+     * To get the state of a given component in one call : whether it is in the page, visible, enabled, read-only,
+     * checked, selected and focused. When the attribute cache is enabled, the state is kept like the attributes
+     * until the next command changing the page. During a state snapshot, it is kept in any case
+     *
+     * @param component the given component
+     * @return the state of the component
+     * @see AttributeCache
+     */
+    ComponentState state(Component component);
+
     /**
      * To know if a field is read-only.
      *
@@ -165,6 +244,17 @@ public interface HtmlEvaluator extends Evaluator<Selenium> {
      */
     String[] elementsId(String path);
 
+    /**
+     * To get the ids of the html elements corresponding to a given path as soon as they are in the page : the wait is
+     * done in the browser, with a single long running command when the UI Test engine allows it
+     *
+     * @param path    the path for the html elements
+     * @param timeout the maximum time to wait, in milliseconds
+     * @return the list of ids of the html elements, empty if none is in the page before the timeout,
+     *         null if the UI Test engine cannot wait in the browser
+     */
+    String[] waitForElementsId(String path, long timeout);
+
     /**
      * To get the html type of the element with a given id
      *
@@ -261,6 +351,15 @@ public interface HtmlEvaluator extends Evaluator<Selenium> {
      */
     Selection<Th> th(Tr tr);
 
+    /**
+     * To get the headers, the rows and the cells of a table in one call : the texts of the headers and of the cells
+     * are given by the model as read at that time, the components of the table still read their content in the page
+     *
+     * @param id the id of the table, or of an element in the table
+     * @return the table model
+     */
+    TableModel tableModel(String id);
+
     /**
      * To get the content of a given component.
      *
@@ -286,6 +385,67 @@ public interface HtmlEvaluator extends Evaluator<Selenium> {
      */
     String nodename(Component component);
 
+    /**
+     * To create a new batch of reads sent to the browser in one call
+     *
+     * @return an empty batch
+     */
+    Batch batch();
+
+    /**
+     * To start a state snapshot : the state of each component is read once until the snapshot ends, whether the
+     * attribute cache is enabled or not, so that the matchers of one assertion share one call per component.
+     * Snapshots can be nested, a command changing the page drops the states read.
+     *
+     * @see #state(Component)
+     */
+    void beginStateSnapshot();
+
+    /**
+     * To end the state snapshot started last
+     */
+    void endStateSnapshot();
+
+    /**
+     * To get the attribute cache of this evaluator
+     *
+     * @return the attribute cache
+     */
+    AttributeCache attributeCache();
+
+    /**
+     * To set the number of elements read at a time by the selections of rows, columns, cells, tr, td and th :
+     * the selections read the elements page by page while they are used
+     *
+     * @param size the number of elements read at a time, 200 by default
+     */
+    void selectionPageSize(int size);
+
+    /**
+     * To set the way the text of the fields is entered by {@link #type(String)} and
+     * {@link #reset(AbstractTextField)}
+     *
+     * @param mode the entry mode, KEYSTROKES by default
+     */
+    void entryMode(EntryMode mode);
+
+    /**
+     * To type a text in the focused component with a given entry mode. With the VALUE mode the text is added to the
+     * value of the focused field : when the focused component is not an InputText, an InputPassword or a TextArea
+     * the text is typed with keystrokes
+     *
+     * @param text the text to type
+     * @param mode the entry mode
+     */
+    void type(String text, EntryMode mode);
+
+    /**
+     * To reset a given text field with a given entry mode
+     *
+     * @param textField the given text field
+     * @param mode      the entry mode
+     */
+    void reset(AbstractTextField textField, EntryMode mode);
 
     String pageId();
 }
@@ -37,7 +37,7 @@ public final class ListBox extends org.testatoo.core.component.ListBox {
      * @param evaluator a UI Test engine specific html evaluator
      * @param id        the id (unique) of the "select" element
      */
-    public ListBox(HtmlEvaluator evaluator, String id) {
+    public ListBox(HtmlEvaluator<?> evaluator, String id) {
         super(evaluator, id);
         this.evaluator = evaluator;
 
@@ -71,4 +71,14 @@ public final class ListBox extends org.testatoo.core.component.ListBox {
     public void select(String value) {
         select.select(value);
     }
+
+    /**
+     * To select in one call the given values in a multi selection list.
+     *
+     * @param values the values we want to select
+     * @return the number of items matching the given values
+     */
+    public int selectAll(String... values) {
+        return select.selectAll(values);
+    }
 }
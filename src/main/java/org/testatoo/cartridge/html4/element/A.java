@@ -28,7 +28,7 @@ import static org.testatoo.cartridge.html4.element.HtmlElementType.A;
  * @author dev@testatoo.org
  * @see <a href="http://www.w3.org/TR/html401/struct/links.html#edef-A"> "a" specification </a>
  */
-public final class A extends org.testatoo.core.component.Link implements Coreattrs, I18n {
+public final class A extends org.testatoo.core.component.Link implements Coreattrs, I18n, Snapshottable<A> {
 
     private CoreAttributeSupport coreAttributeSupport;
     private I18nAttributeSupport i18nAttributeSupport;
@@ -41,7 +41,7 @@ public final class A extends org.testatoo.core.component.Link implements Coreatt
      * @param id        the id (unique) of the "a" element
      * @throws ComponentException if the given id does not correspond to a "a" element
      */
-    public A(HtmlEvaluator evaluator, String id) {
+    public A(HtmlEvaluator<?> evaluator, String id) {
         super(evaluator, id);
         this.evaluator = evaluator;
 
@@ -198,5 +198,13 @@ public final class A extends org.testatoo.core.component.Link implements Coreatt
         return attributeSupport.tabindex(this);
     }
 
-
+    /**
+     * @see Snapshottable
+     */
+    public A snapshot() {
+        return new A(AttributeSnapshot.of(evaluator, id(), Attribute.clazz, Attribute.style, Attribute.title,
+                Attribute.lang, Attribute.dir, Attribute.type, Attribute.name, Attribute.charset, Attribute.href,
+                Attribute.hreflang, Attribute.rel, Attribute.rev, Attribute.accesskey, Attribute.shape,
+                Attribute.coords, Attribute.tabindex), id());
+    }
 }
@@ -30,7 +30,7 @@ import static org.testatoo.cartridge.html4.element.HtmlElementType.Undefined;
  * @see <a href="http://www.w3.org/TR/html401/struct/text.html#edef-ABBR"> abbr specification </a>
  */
 
-public final class Abbr extends Phrase implements Coreattrs, I18n {
+public final class Abbr extends Phrase implements Coreattrs, I18n, Snapshottable<Abbr> {
 
     private CoreAttributeSupport coreAttributeSupport;
     private I18nAttributeSupport i18nAttributeSupport;
@@ -42,7 +42,7 @@ public final class Abbr extends Phrase implements Coreattrs, I18n {
      * @param id        the id (unique) of the abbr element
      * @throws ComponentException if the given id does not correspond to a "abbr" element
      */
-    public Abbr(HtmlEvaluator evaluator, String id) {
+    public Abbr(HtmlEvaluator<?> evaluator, String id) {
         super(evaluator, id);
 
         coreAttributeSupport = new CoreAttributeSupport(evaluator);
@@ -86,5 +86,12 @@ public final class Abbr extends Phrase implements Coreattrs, I18n {
     public Direction direction() {
         return i18nAttributeSupport.direction(this);
     }
-}
 
+    /**
+     * @see Snapshottable
+     */
+    public Abbr snapshot() {
+        return new Abbr(AttributeSnapshot.of(evaluator, id(), Attribute.clazz, Attribute.style, Attribute.title,
+                Attribute.lang, Attribute.dir), id());
+    }
+}
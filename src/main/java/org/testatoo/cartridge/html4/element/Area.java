@@ -19,7 +19,8 @@ package org.testatoo.cartridge.html4.element;
 import org.testatoo.cartridge.html4.HtmlEvaluator;
 import org.testatoo.core.ComponentException;
 import org.testatoo.core.component.Component;
-import org.testatoo.core.nature.Container;
+
+import java.util.List;
 
 import static org.testatoo.cartridge.html4.element.HtmlElementType.Area;
 
@@ -31,8 +32,9 @@ import static org.testatoo.cartridge.html4.element.HtmlElementType.Area;
  * @see <a href="http://www.w3.org/TR/html401/struct/objects.html#edef-AREA"> "area" specification </a>
  */
 
-public final class Area extends Component implements Coreattrs, I18n, Container {
+public final class Area extends Component implements Coreattrs, I18n, HtmlContainer, Snapshottable<Area> {
 
+    private HtmlEvaluator<?> evaluator;
     private CoreAttributeSupport coreAttributeSupport;
     private I18nAttributeSupport i18nAttributeSupport;
     private AttributeSupport attributeSupport;
@@ -44,7 +46,7 @@ public final class Area extends Component implements Coreattrs, I18n, Container
      * @param id        the id (unique) of the "area" element
      * @throws ComponentException if the given id does not correspond to a "area" element
      */
-    public Area(HtmlEvaluator evaluator, String id) {
+    public Area(HtmlEvaluator<?> evaluator, String id) {
         super(evaluator, id);
         this.evaluator = evaluator;
 
@@ -101,6 +103,16 @@ public final class Area extends Component implements Coreattrs, I18n, Container
         return evaluator.contains(this, component);
     }
 
+    /**
+     * To get the given components which are not in the area, in one call.
+     *
+     * @param components components we want to know if contained in the area
+     * @return the missing components, empty if all the components are contained in the area
+     */
+    public List<Component> missing(Component... components) {
+        return evaluator.missing(this, components);
+    }
+
     /**
      * To get the shape attribute of the "area" element.
      * The value can be rect (rectangular), circle (circular), poly (polygonal) or default.
@@ -189,5 +201,13 @@ public final class Area extends Component implements Coreattrs, I18n, Container
     public String toString() {
         return super.toString() + ", title:" + title() + ", href:" + href();
     }
-}
 
+    /**
+     * @see Snapshottable
+     */
+    public Area snapshot() {
+        return new Area(AttributeSnapshot.of(evaluator, id(), Attribute.clazz, Attribute.style, Attribute.title,
+                Attribute.lang, Attribute.dir, Attribute.shape, Attribute.coords, Attribute.href, Attribute.alt,
+                Attribute.tabindex, Attribute.accesskey), id());
+    }
+}
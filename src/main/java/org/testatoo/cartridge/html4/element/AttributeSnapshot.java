@@ -0,0 +1,91 @@
+/**
+ * Copyright (C) 2008 Ovea <dev@testatoo.org>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.testatoo.cartridge.html4.element;
+
+import org.testatoo.cartridge.html4.HtmlEvaluator;
+import org.testatoo.core.Evaluator;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class gives the evaluator used by the snapshots of the html elements. The attributes of an element
+ * are read in one call when the snapshot is taken : the attribute getters of the snapshot give the values read
+ * at that time and the other methods, or the other attributes, are sent to the evaluator of the element.
+ *
+ * @author dev@testatoo.org
+ */
+final class AttributeSnapshot implements InvocationHandler {
+
+    private final HtmlEvaluator<?> evaluator;
+    private final String id;
+    private final Map<Attribute, String> attributes;
+
+    private AttributeSnapshot(HtmlEvaluator<?> evaluator, String id, Attribute... attributes) {
+        this.evaluator = evaluator;
+        this.id = id;
+        this.attributes = evaluator.attributes(id, attributes);
+    }
+
+    /**
+     * To take a snapshot of the attributes of an html element
+     *
+     * @param evaluator  the evaluator of the html element
+     * @param id         the id of the html element
+     * @param attributes the attributes of the html element
+     * @return the evaluator giving the attributes read
+     */
+    static HtmlEvaluator<?> of(Evaluator<?> evaluator, String id, Attribute... attributes) {
+        return (HtmlEvaluator<?>) Proxy.newProxyInstance(HtmlEvaluator.class.getClassLoader(),
+                new Class<?>[]{HtmlEvaluator.class}, new AttributeSnapshot((HtmlEvaluator<?>) evaluator, id, attributes));
+    }
+
+    @Override
+    public java.lang.Object invoke(java.lang.Object proxy, Method method, java.lang.Object[] args) throws Throwable {
+        if (args != null && id.equals(args[0]) && method.getName().equals("attribute") && attributes.containsKey(args[1])) {
+            return attributes.get((Attribute) args[1]);
+        }
+        if (args != null && id.equals(args[0]) && method.getName().equals("attributes")) {
+            Attribute[] read = args.length > 1 ? (Attribute[]) args[1] : Attribute.values();
+            List<Attribute> missing = new ArrayList<Attribute>();
+            for (Attribute attribute : read) {
+                if (!attributes.containsKey(attribute)) {
+                    missing.add(attribute);
+                }
+            }
+            // The attributes out of the snapshot are read in the page
+            Map<Attribute, String> others = missing.isEmpty() ? attributes
+                    : evaluator.attributes(id, missing.toArray(new Attribute[missing.size()]));
+            Map<Attribute, String> values = new LinkedHashMap<Attribute, String>();
+            for (Attribute attribute : read) {
+                values.put(attribute, attributes.containsKey(attribute) ? attributes.get(attribute) : others.get(attribute));
+            }
+            return values;
+        }
+        try {
+            return method.invoke(evaluator, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
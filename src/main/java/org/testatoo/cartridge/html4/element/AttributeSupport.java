@@ -28,14 +28,14 @@ import org.testatoo.core.component.Component;
 
 public final class AttributeSupport {
 
-    private HtmlEvaluator evaluator;
+    private HtmlEvaluator<?> evaluator;
 
     /**
      * Class constructor specifying the evaluator to use.
      *
      * @param evaluator a UI Test engine specific html evaluator
      */
-    AttributeSupport(HtmlEvaluator evaluator) {
+    AttributeSupport(HtmlEvaluator<?> evaluator) {
         this.evaluator = evaluator;
     }
 
@@ -31,7 +31,7 @@ import static org.testatoo.cartridge.html4.element.HtmlElementType.Base;
  * @see <a href="http://www.w3.org/TR/html401/struct/links.html#edef-BASE"> "base" specification </a>
  */
 
-public final class Base extends Component {
+public final class Base extends Component implements Snapshottable<Base> {
     private AttributeSupport attributeSupport;
 
     /**
@@ -41,7 +41,7 @@ public final class Base extends Component {
      * @param id        the id (unique) of the "base" element
      * @throws ComponentException if the given id does not correspond to a "base" element
      */
-    public Base(HtmlEvaluator evaluator, String id) {
+    public Base(HtmlEvaluator<?> evaluator, String id) {
         super(evaluator, id);
         this.evaluator = evaluator;
         attributeSupport = new AttributeSupport(evaluator);
@@ -81,4 +81,11 @@ public final class Base extends Component {
     public String toString() {
         return super.toString() + ", reference:" + href();
     }
+
+    /**
+     * @see Snapshottable
+     */
+    public Base snapshot() {
+        return new Base(AttributeSnapshot.of(evaluator, id(), Attribute.href), id());
+    }
 }
@@ -30,9 +30,9 @@ import org.testatoo.cartridge.html4.HtmlEvaluator;
  * @see <a href="http://www.w3.org/TR/html401/interact/forms.html#edef-INPUT"> "input" specification </a>
  */
 
-public final class Button extends org.testatoo.core.component.Button implements Coreattrs, I18n {
+public final class Button extends org.testatoo.core.component.Button implements Coreattrs, I18n, Snapshottable<Button> {
 
-    private HtmlEvaluator evaluator;
+    private HtmlEvaluator<?> evaluator;
     private CoreAttributeSupport coreAttributeSupport;
     private I18nAttributeSupport i18nAttributeSupport;
     private AttributeSupport attributeSupport;
@@ -43,7 +43,7 @@ public final class Button extends org.testatoo.core.component.Button implements
      * @param evaluator a UI Test engine specific html evaluator
      * @param id        the id (unique) of the "button" element
      */
-    public Button(HtmlEvaluator evaluator, String id) {
+    public Button(HtmlEvaluator<?> evaluator, String id) {
         super(evaluator, id);
         this.evaluator = evaluator;
 
@@ -157,4 +157,12 @@ public final class Button extends org.testatoo.core.component.Button implements
         return attributeSupport.accesskey(this);
     }
 
+    /**
+     * @see Snapshottable
+     */
+    public Button snapshot() {
+        return new Button(AttributeSnapshot.of(evaluator, id(), Attribute.clazz, Attribute.style, Attribute.title,
+                Attribute.lang, Attribute.dir, Attribute.name, Attribute.value, Attribute.alt, Attribute.tabindex,
+                Attribute.accesskey, Attribute.type), id());
+    }
 }
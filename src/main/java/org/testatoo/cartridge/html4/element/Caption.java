@@ -31,11 +31,11 @@ import static org.testatoo.cartridge.html4.element.HtmlElementType.Caption;
  * @see <a href="http://www.w3.org/TR/html401/struct/tables.html#edef-CAPTION"> "caption" specification </a>
  */
 
-public final class Caption extends Component implements Coreattrs, I18n, TitleSupport {
+public final class Caption extends Component implements Coreattrs, I18n, TitleSupport, Snapshottable<Caption> {
 
     private CoreAttributeSupport coreAttributeSupport;
     private I18nAttributeSupport i18nAttributeSupport;
-    private HtmlEvaluator evaluator;
+    private HtmlEvaluator<?> evaluator;
 
     /**
      * Class constructor specifying the evaluator to use and the id of the "caption" element we want to test.
@@ -44,7 +44,7 @@ public final class Caption extends Component implements Coreattrs, I18n, TitleSu
      * @param id        the id (unique) of the "caption" element
      * @throws ComponentException if the given id does not correspond to a "caption" element
      */
-    public Caption(HtmlEvaluator evaluator, String id) {
+    public Caption(HtmlEvaluator<?> evaluator, String id) {
         super(evaluator, id);
         this.evaluator = evaluator;
 
@@ -108,4 +108,12 @@ public final class Caption extends Component implements Coreattrs, I18n, TitleSu
     public String toString() {
         return super.toString() + ", content:" + content();
     }
+
+    /**
+     * @see Snapshottable
+     */
+    public Caption snapshot() {
+        return new Caption(AttributeSnapshot.of(evaluator, id(), Attribute.clazz, Attribute.style, Attribute.title,
+                Attribute.lang, Attribute.dir), id());
+    }
 }
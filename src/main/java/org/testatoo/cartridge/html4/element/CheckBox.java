@@ -28,9 +28,9 @@ import static org.testatoo.cartridge.html4.element.HtmlElementType.CheckBox;
  * @see <a href="http://www.w3.org/TR/html401/interact/forms.html#edef-INPUT"> "input" specification </a>
  */
 
-public final class CheckBox extends org.testatoo.core.component.CheckBox implements Coreattrs, I18n {
+public final class CheckBox extends org.testatoo.core.component.CheckBox implements Coreattrs, I18n, Snapshottable<CheckBox> {
 
-    private HtmlEvaluator evaluator;
+    private HtmlEvaluator<?> evaluator;
     private CoreAttributeSupport coreAttributeSupport;
     private I18nAttributeSupport i18nAttributeSupport;
     private AttributeSupport attributeSupport;
@@ -42,7 +42,7 @@ public final class CheckBox extends org.testatoo.core.component.CheckBox impleme
      * @param id        the id (unique) of the "input" element
      * @throws ComponentException if the given id does not correspond to a "input" element with type="checkbox"
      */
-    public CheckBox(HtmlEvaluator evaluator, String id) {
+    public CheckBox(HtmlEvaluator<?> evaluator, String id) {
         super(evaluator, id);
         this.evaluator = evaluator;
         coreAttributeSupport = new CoreAttributeSupport(evaluator);
@@ -153,4 +153,13 @@ public final class CheckBox extends org.testatoo.core.component.CheckBox impleme
     public String accesskey() {
         return attributeSupport.accesskey(this);
     }
+
+    /**
+     * @see Snapshottable
+     */
+    public CheckBox snapshot() {
+        return new CheckBox(AttributeSnapshot.of(evaluator, id(), Attribute.clazz, Attribute.style, Attribute.title,
+                Attribute.lang, Attribute.dir, Attribute.value, Attribute.name, Attribute.alt, Attribute.tabindex,
+                Attribute.accesskey), id());
+    }
 }
@@ -29,7 +29,7 @@ import static org.testatoo.cartridge.html4.element.HtmlElementType.Cite;
  * @see <a href="http://www.w3.org/TR/html401/struct/text.html#edef-CITE"> cite specification </a>
  */
 
-public final class Cite extends Phrase implements Coreattrs, I18n {
+public final class Cite extends Phrase implements Coreattrs, I18n, Snapshottable<Cite> {
 
     private CoreAttributeSupport coreAttributeSupport;
     private I18nAttributeSupport i18nAttributeSupport;
@@ -41,7 +41,7 @@ public final class Cite extends Phrase implements Coreattrs, I18n {
      * @param id        the id (unique) of the cite element
      * @throws ComponentException if the given id does not correspond to a "cite" element
      */
-    public Cite(HtmlEvaluator evaluator, String id) {
+    public Cite(HtmlEvaluator<?> evaluator, String id) {
         super(evaluator, id);
 
         coreAttributeSupport = new CoreAttributeSupport(evaluator);
@@ -85,4 +85,12 @@ public final class Cite extends Phrase implements Coreattrs, I18n {
     public Direction direction() {
         return i18nAttributeSupport.direction(this);
     }
+
+    /**
+     * @see Snapshottable
+     */
+    public Cite snapshot() {
+        return new Cite(AttributeSnapshot.of(evaluator, id(), Attribute.clazz, Attribute.style, Attribute.title,
+                Attribute.lang, Attribute.dir), id());
+    }
 }
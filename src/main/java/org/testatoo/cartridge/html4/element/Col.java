@@ -31,7 +31,7 @@ import static org.testatoo.cartridge.html4.element.HtmlElementType.Col;
  * @see <a href="http://www.w3.org/TR/html401/struct/tables.html#edef-COL"> "col" specification </a>
  */
 
-public final class Col extends Component implements Coreattrs, I18n, TitleSupport {
+public final class Col extends Component implements Coreattrs, I18n, TitleSupport, Snapshottable<Col> {
 
     private CoreAttributeSupport coreAttributeSupport;
     private I18nAttributeSupport i18nAttributeSupport;
@@ -44,7 +44,7 @@ public final class Col extends Component implements Coreattrs, I18n, TitleSuppor
      * @param id        the id (unique) of the "col" element
      * @throws ComponentException if the given id does not correspond to a "col" element
      */
-    public Col(HtmlEvaluator evaluator, String id) {
+    public Col(HtmlEvaluator<?> evaluator, String id) {
         super(evaluator, id);
         this.evaluator = evaluator;
 
@@ -141,4 +141,12 @@ public final class Col extends Component implements Coreattrs, I18n, TitleSuppor
         return super.toString() + ", title:" + title();
     }
 
+    /**
+     * @see Snapshottable
+     */
+    public Col snapshot() {
+        return new Col(AttributeSnapshot.of(evaluator, id(), Attribute.clazz, Attribute.style, Attribute.title,
+                Attribute.lang, Attribute.dir, Attribute.cellhalign, Attribute.cellvalign, Attribute.span,
+                Attribute.width), id());
+    }
 }
@@ -20,7 +20,8 @@ import org.testatoo.cartridge.html4.HtmlEvaluator;
 import org.testatoo.core.ComponentException;
 import org.testatoo.core.Selection;
 import org.testatoo.core.component.Component;
-import org.testatoo.core.nature.Container;
+
+import java.util.List;
 
 import static org.testatoo.cartridge.html4.element.HtmlElementType.Colgroup;
 
@@ -32,12 +33,12 @@ import static org.testatoo.cartridge.html4.element.HtmlElementType.Colgroup;
  * @see <a href="http://www.w3.org/TR/html401/struct/tables.html#edef-COLGROUP"> "colgroup" specification </a>
  */
 
-public final class Colgroup extends Component implements Coreattrs, I18n, Container {
+public final class Colgroup extends Component implements Coreattrs, I18n, HtmlContainer, Snapshottable<Colgroup> {
 
     private CoreAttributeSupport coreAttributeSupport;
     private I18nAttributeSupport i18nAttributeSupport;
     private AttributeSupport attributeSupport;
-    private HtmlEvaluator evaluator;
+    private HtmlEvaluator<?> evaluator;
 
     /**
      * Class constructor specifying the evaluator to use and the id of the "colgroup" element we want to test.
@@ -46,7 +47,7 @@ public final class Colgroup extends Component implements Coreattrs, I18n, Contai
      * @param id        the id (unique) of the "colgroup" element
      * @throws ComponentException if the given id does not correspond to a "colgroup" element
      */
-    public Colgroup(HtmlEvaluator evaluator, String id) {
+    public Colgroup(HtmlEvaluator<?> evaluator, String id) {
         super(evaluator, id);
         this.evaluator = evaluator;
 
@@ -103,6 +104,16 @@ public final class Colgroup extends Component implements Coreattrs, I18n, Contai
         return evaluator.contains(this, components);
     }
 
+    /**
+     * To get the given components which are not in the colgroup, in one call.
+     *
+     * @param components components we want to know if contained in the colgroup
+     * @return the missing components, empty if all the components are contained in the colgroup
+     */
+    public List<Component> missing(Component... components) {
+        return evaluator.missing(this, components);
+    }
+
     /**
      * To get the cellhalign attribute of the column group.
      *
@@ -168,4 +179,13 @@ public final class Colgroup extends Component implements Coreattrs, I18n, Contai
     public String toString() {
         return super.toString() + ", title:" + title();
     }
-}
\ No newline at end of file
+
+    /**
+     * @see Snapshottable
+     */
+    public Colgroup snapshot() {
+        return new Colgroup(AttributeSnapshot.of(evaluator, id(), Attribute.clazz, Attribute.style, Attribute.title,
+                Attribute.lang, Attribute.dir, Attribute.cellhalign, Attribute.cellvalign, Attribute.span,
+                Attribute.width), id());
+    }
+}
@@ -0,0 +1,90 @@
+/**
+ * Copyright (C) 2008 Ovea <dev@testatoo.org>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.testatoo.cartridge.html4.element;
+
+/**
+ * This class gives the state of a component read in one call : whether it is in the page, visible, enabled,
+ * read-only, checked, selected and focused.
+ *
+ * @author dev@testatoo.org
+ * @see org.testatoo.cartridge.html4.HtmlEvaluator#state(org.testatoo.core.component.Component)
+ */
+public final class ComponentState {
+
+    public static final int PRESENT = 1;
+    public static final int VISIBLE = 2;
+    public static final int ENABLED = 4;
+    public static final int READONLY = 8;
+    public static final int CHECKED = 16;
+    public static final int SELECTED = 32;
+    public static final int FOCUSED = 64;
+
+    private final int bits;
+
+    /**
+     * Class constructor specifying the state bits
+     *
+     * @param bits the state bits (PRESENT, VISIBLE, ENABLED, READONLY, CHECKED, SELECTED and FOCUSED), 0 when the
+     *             component is not in the page
+     */
+    public ComponentState(int bits) {
+        this.bits = bits;
+    }
+
+    public int bits() {
+        return bits;
+    }
+
+    public boolean isPresent() {
+        return is(PRESENT);
+    }
+
+    public boolean isVisible() {
+        return is(VISIBLE);
+    }
+
+    public boolean isEnabled() {
+        return is(ENABLED);
+    }
+
+    public boolean isReadOnly() {
+        return is(READONLY);
+    }
+
+    public boolean isChecked() {
+        return is(CHECKED);
+    }
+
+    public boolean isSelected() {
+        return is(SELECTED);
+    }
+
+    public boolean hasFocus() {
+        return is(FOCUSED);
+    }
+
+    private boolean is(int bit) {
+        return (bits & bit) != 0;
+    }
+
+    @Override
+    public String toString() {
+        return "ComponentState{present=" + isPresent() + ", visible=" + isVisible() + ", enabled=" + isEnabled()
+                + ", readonly=" + isReadOnly() + ", checked=" + isChecked() + ", selected=" + isSelected()
+                + ", focused=" + hasFocus() + '}';
+    }
+}
@@ -28,14 +28,14 @@ import org.testatoo.core.component.Component;
 
 public final class CoreAttributeSupport {
 
-    private HtmlEvaluator evaluator;
+    private HtmlEvaluator<?> evaluator;
 
     /**
      * Class constructor specifying the evaluator to use
      *
      * @param evaluator a UI Test engine specific html evaluator
      */
-    CoreAttributeSupport(HtmlEvaluator evaluator) {
+    CoreAttributeSupport(HtmlEvaluator<?> evaluator) {
         this.evaluator = evaluator;
     }
 
@@ -30,11 +30,11 @@ import static org.testatoo.cartridge.html4.element.HtmlElementType.Dd;
  * @see <a href="http://www.w3.org/TR/html401/struct/lists.html#edef-DD"> "dd" specification </a>
  */
 
-public final class Dd extends Component implements Coreattrs, I18n {
+public final class Dd extends Component implements Coreattrs, I18n, Snapshottable<Dd> {
 
     private CoreAttributeSupport coreAttributeSupport;
     private I18nAttributeSupport i18nAttributeSupport;
-    private HtmlEvaluator evaluator;
+    private HtmlEvaluator<?> evaluator;
 
     /**
      * Class constructor specifying the evaluator to use and the id of the "dd" element we want to test.
@@ -43,7 +43,7 @@ public final class Dd extends Component implements Coreattrs, I18n {
      * @param id        the id (unique) of the "dd" element
      * @throws ComponentException if the given id does not correspond to a "dd" element
      */
-    public Dd(HtmlEvaluator evaluator, String id) {
+    public Dd(HtmlEvaluator<?> evaluator, String id) {
         super(evaluator, id);
         this.evaluator = evaluator;
 
@@ -106,5 +106,12 @@ public final class Dd extends Component implements Coreattrs, I18n {
     public String toString() {
         return super.toString() + ", title:" + title() + ", content:" + content();
     }
-}
 
+    /**
+     * @see Snapshottable
+     */
+    public Dd snapshot() {
+        return new Dd(AttributeSnapshot.of(evaluator, id(), Attribute.clazz, Attribute.style, Attribute.title,
+                Attribute.lang, Attribute.dir), id());
+    }
+}
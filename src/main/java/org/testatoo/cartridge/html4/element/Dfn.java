@@ -29,7 +29,7 @@ import static org.testatoo.cartridge.html4.element.HtmlElementType.Dfn;
  * @see <a href="http://www.w3.org/TR/html401/struct/text.html#edef-DFN"> dfn specification </a>
  */
 
-public final class Dfn extends Phrase implements Coreattrs, I18n {
+public final class Dfn extends Phrase implements Coreattrs, I18n, Snapshottable<Dfn> {
 
     private CoreAttributeSupport coreAttributeSupport;
     private I18nAttributeSupport i18nAttributeSupport;
@@ -42,7 +42,7 @@ public final class Dfn extends Phrase implements Coreattrs, I18n {
      * @throws ComponentException if the given id does not correspond to a "dfn" element
      */
 
-    public Dfn(HtmlEvaluator evaluator, String id) {
+    public Dfn(HtmlEvaluator<?> evaluator, String id) {
         super(evaluator, id);
 
         coreAttributeSupport = new CoreAttributeSupport(evaluator);
@@ -86,4 +86,12 @@ public final class Dfn extends Phrase implements Coreattrs, I18n {
     public Direction direction() {
         return i18nAttributeSupport.direction(this);
     }
+
+    /**
+     * @see Snapshottable
+     */
+    public Dfn snapshot() {
+        return new Dfn(AttributeSnapshot.of(evaluator, id(), Attribute.clazz, Attribute.style, Attribute.title,
+                Attribute.lang, Attribute.dir), id());
+    }
 }
@@ -18,6 +18,9 @@ package org.testatoo.cartridge.html4.element;
 
 import org.testatoo.cartridge.html4.HtmlEvaluator;
 import org.testatoo.core.ComponentException;
+import org.testatoo.core.component.Component;
+
+import java.util.List;
 
 import static org.testatoo.cartridge.html4.element.HtmlElementType.Div;
 
@@ -29,8 +32,9 @@ import static org.testatoo.cartridge.html4.element.HtmlElementType.Div;
  * @see <a href="http://www.w3.org/TR/html401/struct/global.html#edef-DIV"> "div" specification </a>
  */
 
-public final class Div extends org.testatoo.core.component.Panel implements Coreattrs, I18n {
+public final class Div extends org.testatoo.core.component.Panel implements Coreattrs, I18n, HtmlContainer, Snapshottable<Div> {
 
+    private HtmlEvaluator<?> htmlEvaluator;
     private CoreAttributeSupport coreAttributeSupport;
     private I18nAttributeSupport i18nAttributeSupport;
 
@@ -41,9 +45,10 @@ public final class Div extends org.testatoo.core.component.Panel implements Core
      * @param id        the id (unique) of the "div" element
      * @throws ComponentException if the given id does not correspond to a "div" element
      */
-    public Div(HtmlEvaluator evaluator, String id) {
+    public Div(HtmlEvaluator<?> evaluator, String id) {
         super(evaluator, id);
         this.evaluator = evaluator;
+        htmlEvaluator = evaluator;
 
         coreAttributeSupport = new CoreAttributeSupport(evaluator);
         i18nAttributeSupport = new I18nAttributeSupport(evaluator);
@@ -86,4 +91,32 @@ public final class Div extends org.testatoo.core.component.Panel implements Core
     public String title() {
         return evaluator.title(this);
     }
+
+    /**
+     * To know if the div contains all the given components.
+     *
+     * @param components components we want to know if contained in the div
+     * @return True if all the components are contained in the div
+     */
+    public Boolean contains(Component... components) {
+        return htmlEvaluator.contains(this, components);
+    }
+
+    /**
+     * To get the given components which are not in the div.
+     *
+     * @param components components we want to know if contained in the div
+     * @return the missing components, empty if all the components are contained in the div
+     */
+    public List<Component> missing(Component... components) {
+        return htmlEvaluator.missing(this, components);
+    }
+
+    /**
+     * @see Snapshottable
+     */
+    public Div snapshot() {
+        return new Div(AttributeSnapshot.of(evaluator, id(), Attribute.clazz, Attribute.style, Attribute.lang,
+                Attribute.dir), id());
+    }
 }
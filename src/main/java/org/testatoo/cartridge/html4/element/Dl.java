@@ -31,7 +31,7 @@ import static org.testatoo.cartridge.html4.element.HtmlElementType.Dl;
  * @see <a href="http://www.w3.org/TR/html401/struct/lists.html#edef-DL"> "dl" specification </a>
  */
 
-public final class Dl extends Component implements Coreattrs, I18n {
+public final class Dl extends Component implements Coreattrs, I18n, Snapshottable<Dl> {
 
     private CoreAttributeSupport coreAttributeSupport;
     private I18nAttributeSupport i18nAttributeSupport;
@@ -43,7 +43,7 @@ public final class Dl extends Component implements Coreattrs, I18n {
      * @param id        the id (unique) of the "dl" element
      * @throws ComponentException if the given id does not correspond to a "dl" element
      */
-    public Dl(HtmlEvaluator evaluator, String id) {
+    public Dl(HtmlEvaluator<?> evaluator, String id) {
         super(evaluator, id);
         this.evaluator = evaluator;
 
@@ -97,4 +97,12 @@ public final class Dl extends Component implements Coreattrs, I18n {
     public String toString() {
         return super.toString() + ", title:" + title();
     }
+
+    /**
+     * @see Snapshottable
+     */
+    public Dl snapshot() {
+        return new Dl(AttributeSnapshot.of(evaluator, id(), Attribute.clazz, Attribute.style, Attribute.title,
+                Attribute.lang, Attribute.dir), id());
+    }
 }
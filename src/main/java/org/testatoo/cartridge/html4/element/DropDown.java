@@ -38,7 +38,7 @@ public final class DropDown extends org.testatoo.core.component.DropDown {
      * @param id        the id (unique) of the "select" element
      * @throws ComponentException if the id is a multiple select
      */
-    public DropDown(HtmlEvaluator evaluator, String id) {
+    public DropDown(HtmlEvaluator<?> evaluator, String id) {
         super(evaluator, id);
         this.evaluator = evaluator;
         select = new Select(evaluator, id);
@@ -30,11 +30,11 @@ import static org.testatoo.cartridge.html4.element.HtmlElementType.Dt;
  * @see <a href="http://www.w3.org/TR/html401/struct/lists.html#edef-DT"> "dt" specification </a>
  */
 
-public final class Dt extends Component implements Coreattrs, I18n {
+public final class Dt extends Component implements Coreattrs, I18n, Snapshottable<Dt> {
 
     private CoreAttributeSupport coreAttributeSupport;
     private I18nAttributeSupport i18nAttributeSupport;
-    private HtmlEvaluator evaluator;
+    private HtmlEvaluator<?> evaluator;
 
 
     /**
@@ -44,7 +44,7 @@ public final class Dt extends Component implements Coreattrs, I18n {
      * @param id        the id (unique) of the "dt" element
      * @throws ComponentException if the given id does not correspond to a "dt" element
      */
-    public Dt(HtmlEvaluator evaluator, String id) {
+    public Dt(HtmlEvaluator<?> evaluator, String id) {
         super(evaluator, id);
         this.evaluator = evaluator;
 
@@ -107,5 +107,12 @@ public final class Dt extends Component implements Coreattrs, I18n {
     public String toString() {
         return super.toString() + ", title:" + title() + ", content:" + content();
     }
-}
 
+    /**
+     * @see Snapshottable
+     */
+    public Dt snapshot() {
+        return new Dt(AttributeSnapshot.of(evaluator, id(), Attribute.clazz, Attribute.style, Attribute.title,
+                Attribute.lang, Attribute.dir), id());
+    }
+}
@@ -29,7 +29,7 @@ import static org.testatoo.cartridge.html4.element.HtmlElementType.Em;
  * @see <a href="http://www.w3.org/TR/html401/struct/text.html#edef-EM"> em specification </a>
  */
 
-public final class Em extends Phrase implements Coreattrs, I18n {
+public final class Em extends Phrase implements Coreattrs, I18n, Snapshottable<Em> {
 
     private CoreAttributeSupport coreAttributeSupport;
     private I18nAttributeSupport i18nAttributeSupport;
@@ -41,7 +41,7 @@ public final class Em extends Phrase implements Coreattrs, I18n {
      * @param id        the id (unique) of the em element
      * @throws ComponentException if the given id does not correspond to a "em" element
      */
-    public Em(HtmlEvaluator evaluator, String id) {
+    public Em(HtmlEvaluator<?> evaluator, String id) {
         super(evaluator, id);
 
         coreAttributeSupport = new CoreAttributeSupport(evaluator);
@@ -85,4 +85,12 @@ public final class Em extends Phrase implements Coreattrs, I18n {
     public Direction direction() {
         return i18nAttributeSupport.direction(this);
     }
+
+    /**
+     * @see Snapshottable
+     */
+    public Em snapshot() {
+        return new Em(AttributeSnapshot.of(evaluator, id(), Attribute.clazz, Attribute.style, Attribute.title,
+                Attribute.lang, Attribute.dir), id());
+    }
 }
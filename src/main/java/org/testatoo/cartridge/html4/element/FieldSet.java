@@ -20,6 +20,8 @@ import org.testatoo.cartridge.html4.HtmlEvaluator;
 import org.testatoo.core.ComponentException;
 import org.testatoo.core.component.Component;
 
+import java.util.List;
+
 import static org.testatoo.cartridge.html4.element.HtmlElementType.FieldSet;
 
 /**
@@ -30,8 +32,9 @@ import static org.testatoo.cartridge.html4.element.HtmlElementType.FieldSet;
  * @see <a href="http://www.w3.org/TR/html401/interact/forms.html#edef-FIELDSET"> "fieldset" specification </a>
  */
 
-public final class FieldSet extends Component implements Coreattrs, I18n {
+public final class FieldSet extends Component implements Coreattrs, I18n, HtmlContainer, Snapshottable<FieldSet> {
 
+    private HtmlEvaluator<?> htmlEvaluator;
     private CoreAttributeSupport coreAttributeSupport;
     private I18nAttributeSupport i18nAttributeSupport;
 
@@ -42,9 +45,10 @@ public final class FieldSet extends Component implements Coreattrs, I18n {
      * @param id        the id (unique) of the "fieldset" element
      * @throws ComponentException if the given id does not correspond to a "fieldset" element
      */
-    public FieldSet(HtmlEvaluator evaluator, String id) {
+    public FieldSet(HtmlEvaluator<?> evaluator, String id) {
         super(evaluator, id);
         this.evaluator = evaluator;
+        htmlEvaluator = evaluator;
 
         coreAttributeSupport = new CoreAttributeSupport(evaluator);
         i18nAttributeSupport = new I18nAttributeSupport(evaluator);
@@ -89,4 +93,31 @@ public final class FieldSet extends Component implements Coreattrs, I18n {
         return i18nAttributeSupport.direction(this);
     }
 
+    /**
+     * To know if the fieldset contains all the given components.
+     *
+     * @param components components we want to know if contained in the fieldset
+     * @return True if all the components are contained in the fieldset
+     */
+    public Boolean contains(Component... components) {
+        return htmlEvaluator.contains(this, components);
+    }
+
+    /**
+     * To get the given components which are not in the fieldset.
+     *
+     * @param components components we want to know if contained in the fieldset
+     * @return the missing components, empty if all the components are contained in the fieldset
+     */
+    public List<Component> missing(Component... components) {
+        return htmlEvaluator.missing(this, components);
+    }
+
+    /**
+     * @see Snapshottable
+     */
+    public FieldSet snapshot() {
+        return new FieldSet(AttributeSnapshot.of(evaluator, id(), Attribute.clazz, Attribute.style, Attribute.title,
+                Attribute.lang, Attribute.dir), id());
+    }
 }
@@ -29,7 +29,7 @@ import static org.testatoo.cartridge.html4.element.HtmlElementType.File;
  * @see <a href="http://www.w3.org/TR/html401/interact/forms.html#edef-INPUT"> "input" specification </a>
  */
 
-public class File extends FileDialog implements Coreattrs, I18n {
+public class File extends FileDialog implements Coreattrs, I18n, Snapshottable<File> {
 
     private CoreAttributeSupport coreAttributeSupport;
     private I18nAttributeSupport i18nAttributeSupport;
@@ -42,7 +42,7 @@ public class File extends FileDialog implements Coreattrs, I18n {
      * @param id        the id (unique) of the "input" element
      * @throws ComponentException if the given id does not correspond to a "input" element with type="file"
      */
-    public File(HtmlEvaluator evaluator, String id) {
+    public File(HtmlEvaluator<?> evaluator, String id) {
         super(evaluator, id);
         this.evaluator = evaluator;
 
@@ -174,4 +174,13 @@ public class File extends FileDialog implements Coreattrs, I18n {
     public String accept() {
         return attributeSupport.accept(this);
     }
+
+    /**
+     * @see Snapshottable
+     */
+    public File snapshot() {
+        return new File(AttributeSnapshot.of(evaluator, id(), Attribute.dir, Attribute.lang, Attribute.clazz,
+                Attribute.style, Attribute.title, Attribute.name, Attribute.alt, Attribute.tabindex,
+                Attribute.accesskey, Attribute.accept), id());
+    }
 }
@@ -19,7 +19,9 @@ package org.testatoo.cartridge.html4.element;
 import org.testatoo.cartridge.html4.HtmlEvaluator;
 import org.testatoo.core.ComponentException;
 import org.testatoo.core.component.Component;
-import org.testatoo.core.nature.Container;
+
+import java.util.List;
+import java.util.Map;
 
 import static org.testatoo.cartridge.html4.element.HtmlElementType.Form;
 
@@ -30,9 +32,9 @@ import static org.testatoo.cartridge.html4.element.HtmlElementType.Form;
  * @see <a href="http://www.w3.org/TR/html401/interact/forms.html#edef-FORM"> form specification </a>
  */
 
-public final class Form extends Component implements Coreattrs, I18n, Container {
+public final class Form extends Component implements Coreattrs, I18n, HtmlContainer, Snapshottable<Form> {
 
-    private HtmlEvaluator evaluator;
+    private HtmlEvaluator<?> evaluator;
     private CoreAttributeSupport coreAttributeSupport;
     private I18nAttributeSupport i18nAttributeSupport;
     private AttributeSupport attributeSupport;
@@ -44,7 +46,7 @@ public final class Form extends Component implements Coreattrs, I18n, Container
      * @param id        the id (unique) of the "form" element
      * @throws ComponentException if the given id does not correspond to a "form" element
      */
-    public Form(HtmlEvaluator evaluator, String id) {
+    public Form(HtmlEvaluator<?> evaluator, String id) {
         super(evaluator, id);
         this.evaluator = evaluator;
 
@@ -101,6 +103,16 @@ public final class Form extends Component implements Coreattrs, I18n, Container
         return evaluator.contains(this, components);
     }
 
+    /**
+     * To get the given components which are not in the form, in one call.
+     *
+     * @param components components we want to know if contained in the form
+     * @return the missing components, empty if all the components are contained in the form
+     */
+    public List<Component> missing(Component... components) {
+        return evaluator.missing(this, components);
+    }
+
     /**
      * To get the action attribute of the form.
      * Action is used to specify where the form is sent to. It must take the form of a URI.
@@ -119,6 +131,25 @@ public final class Form extends Component implements Coreattrs, I18n, Container
         evaluator.reset(this);
     }
 
+    /**
+     * To set the controls of the form in one call
+     *
+     * @param values the values of the controls, keyed by their name or by their id
+     * @see HtmlEvaluator#fill(Form, Map)
+     */
+    public void fill(Map<String, String> values) {
+        evaluator.fill(this, values);
+    }
+
+    /**
+     * To get the state of all the controls of the form in one call
+     *
+     * @return the value, the checked state and the selected options of each control
+     */
+    public FormState state() {
+        return evaluator.formState(this);
+    }
+
     /**
      * To submit the form
      */
@@ -188,4 +219,12 @@ public final class Form extends Component implements Coreattrs, I18n, Container
         return super.toString() + ", action:" + action();
     }
 
+    /**
+     * @see Snapshottable
+     */
+    public Form snapshot() {
+        return new Form(AttributeSnapshot.of(evaluator, id(), Attribute.clazz, Attribute.style, Attribute.title,
+                Attribute.lang, Attribute.dir, Attribute.method, Attribute.enctype, Attribute.accept, Attribute.name,
+                Attribute.acceptcharset, Attribute.action), id());
+    }
 }
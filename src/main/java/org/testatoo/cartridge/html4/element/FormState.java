@@ -0,0 +1,173 @@
+/**
+ * Copyright (C) 2008 Ovea <dev@testatoo.org>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.testatoo.cartridge.html4.element;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * This class gives the state of the controls of a form read in one call : the value, the checked state and the
+ * selected options of each control are given without any other call to the browser.
+ *
+ * @author dev@testatoo.org
+ * @see org.testatoo.cartridge.html4.HtmlEvaluator#formState(Form)
+ */
+public final class FormState {
+
+    private final List<Entry> controls;
+
+    /**
+     * Class constructor specifying the controls
+     *
+     * @param controls the controls of the form in the document order
+     */
+    public FormState(List<Entry> controls) {
+        this.controls = Collections.unmodifiableList(new ArrayList<Entry>(controls));
+    }
+
+    /**
+     * To get the controls
+     *
+     * @return the controls of the form in the document order
+     */
+    public List<Entry> controls() {
+        return controls;
+    }
+
+    /**
+     * To get the value of a control. For a group of checkboxes or radios sharing a name, the value of the checked
+     * one is given
+     *
+     * @param key the name or the id of the control
+     * @return the value of the control, empty if no control has this name or id or if none of the group is checked
+     */
+    public String value(String key) {
+        String value = null;
+        for (Entry control : controls(key)) {
+            if (!control.isCheckable()) {
+                return control.value();
+            }
+            if (control.isChecked() && value == null) {
+                value = control.value();
+            }
+        }
+        return value == null ? "" : value;
+    }
+
+    /**
+     * To know if a checkbox or a radio is checked
+     *
+     * @param key the name or the id of the control, or of its group
+     * @return true if a control with this name or id is checked
+     */
+    public boolean isChecked(String key) {
+        for (Entry control : controls(key)) {
+            if (control.isChecked()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * To get the selected options of a select
+     *
+     * @param key the name or the id of the select
+     * @return the texts of the selected options, empty if no select has this name or id
+     */
+    public List<String> selectedOptions(String key) {
+        List<Entry> controls = controls(key);
+        return controls.isEmpty() ? Collections.<String>emptyList() : controls.get(0).selectedOptions();
+    }
+
+    private List<Entry> controls(String key) {
+        List<Entry> matches = new ArrayList<Entry>();
+        for (Entry control : controls) {
+            if (key.equals(control.name()) || key.equals(control.id())) {
+                matches.add(control);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * A control of the form
+     */
+    public static final class Entry {
+
+        private final String id;
+        private final String name;
+        private final String type;
+        private final String value;
+        private final boolean checked;
+        private final List<String> selectedOptions;
+
+        /**
+         * Class constructor specifying the state of the control
+         *
+         * @param id              the id of the control
+         * @param name            the name of the control, empty if it has none
+         * @param type            the type of the control in lower case (text, checkbox, select-one, textarea...)
+         * @param value           the value of the control
+         * @param checked         true if the control is a checked checkbox or radio
+         * @param selectedOptions the texts of the selected options of a select
+         */
+        public Entry(String id, String name, String type, String value, boolean checked, List<String> selectedOptions) {
+            this.id = id;
+            this.name = name;
+            this.type = type;
+            this.value = value;
+            this.checked = checked;
+            this.selectedOptions = Collections.unmodifiableList(new ArrayList<String>(selectedOptions));
+        }
+
+        public String id() {
+            return id;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public String type() {
+            return type;
+        }
+
+        public String value() {
+            return value;
+        }
+
+        public boolean isChecked() {
+            return checked;
+        }
+
+        public List<String> selectedOptions() {
+            return selectedOptions;
+        }
+
+        private boolean isCheckable() {
+            return type.equals("checkbox") || type.equals("radio");
+        }
+
+        @Override
+        public String toString() {
+            return "Control{id='" + id + "', name='" + name + "', type='" + type + "', value='" + value
+                    + "', checked=" + checked + ", selectedOptions=" + selectedOptions + '}';
+        }
+    }
+}
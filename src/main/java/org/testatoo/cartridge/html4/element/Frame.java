@@ -31,7 +31,7 @@ import static org.testatoo.cartridge.html4.element.HtmlElementType.Frame;
  */
 
 
-public final class Frame extends Component implements Coreattrs {
+public final class Frame extends Component implements Coreattrs, Snapshottable<Frame> {
 
     private CoreAttributeSupport coreAttributeSupport;
     private AttributeSupport attributeSupport;
@@ -43,7 +43,7 @@ public final class Frame extends Component implements Coreattrs {
      * @param id        the id (unique) of the "frame" element
      * @throws ComponentException if the given id does not correspond to a "frame" element
      */
-    public Frame(HtmlEvaluator evaluator, String id) {
+    public Frame(HtmlEvaluator<?> evaluator, String id) {
         super(evaluator, id);
         this.evaluator = evaluator;
 
@@ -171,4 +171,13 @@ public final class Frame extends Component implements Coreattrs {
     public String toString() {
         return super.toString() + ", title:" + title();
     }
-}
\ No newline at end of file
+
+    /**
+     * @see Snapshottable
+     */
+    public Frame snapshot() {
+        return new Frame(AttributeSnapshot.of(evaluator, id(), Attribute.clazz, Attribute.style, Attribute.title,
+                Attribute.name, Attribute.longdesc, Attribute.src, Attribute.frameborder, Attribute.marginwidth,
+                Attribute.marginheight, Attribute.scrolling), id());
+    }
+}
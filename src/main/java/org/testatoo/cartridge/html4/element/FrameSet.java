@@ -30,7 +30,7 @@ import static org.testatoo.cartridge.html4.element.HtmlElementType.FrameSet;
  * @see <a href="http://www.w3.org/TR/html401/present/frames.html#edef-FRAMESET"> frameset specification </a>
  */
 
-public class FrameSet extends Component implements Coreattrs {
+public class FrameSet extends Component implements Coreattrs, Snapshottable<FrameSet> {
 
     private CoreAttributeSupport coreAttributeSupport;
     private AttributeSupport attributeSupport;
@@ -42,7 +42,7 @@ public class FrameSet extends Component implements Coreattrs {
      * @param id        the id (unique) of the "frameset" element
      * @throws ComponentException if the given id does not correspond to a "frameset" element
      */
-    public FrameSet(HtmlEvaluator evaluator, String id) {
+    public FrameSet(HtmlEvaluator<?> evaluator, String id) {
         super(evaluator, id);
         this.evaluator = evaluator;
 
@@ -104,4 +104,12 @@ public class FrameSet extends Component implements Coreattrs {
     public String toString() {
         return super.toString() + ", title:" + title();
     }
+
+    /**
+     * @see Snapshottable
+     */
+    public FrameSet snapshot() {
+        return new FrameSet(AttributeSnapshot.of(evaluator, id(), Attribute.clazz, Attribute.style, Attribute.title,
+                Attribute.cols, Attribute.rows), id());
+    }
 }
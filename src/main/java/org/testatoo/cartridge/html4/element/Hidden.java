@@ -28,7 +28,7 @@ import static org.testatoo.cartridge.html4.element.HtmlElementType.Hidden;
  * @see <a href="http://www.w3.org/TR/html401/interact/forms.html#edef-INPUT"> "input" specification </a>
  */
 
-public final class Hidden extends org.testatoo.core.component.Field implements Coreattrs, I18n {
+public final class Hidden extends org.testatoo.core.component.Field implements Coreattrs, I18n, Snapshottable<Hidden> {
 
     private CoreAttributeSupport coreAttributeSupport;
     private I18nAttributeSupport i18nAttributeSupport;
@@ -41,7 +41,7 @@ public final class Hidden extends org.testatoo.core.component.Field implements C
      * @param id        the id (unique) of the "input" element
      * @throws ComponentException if the given id does not correspond to a "input" element with type="hidden"
      */
-    public Hidden(HtmlEvaluator evaluator, String id) {
+    public Hidden(HtmlEvaluator<?> evaluator, String id) {
         super(evaluator, id);
         this.evaluator = evaluator;
 
@@ -152,4 +152,13 @@ public final class Hidden extends org.testatoo.core.component.Field implements C
     public String label() {
         return "";
     }
+
+    /**
+     * @see Snapshottable
+     */
+    public Hidden snapshot() {
+        return new Hidden(AttributeSnapshot.of(evaluator, id(), Attribute.clazz, Attribute.style, Attribute.title,
+                Attribute.lang, Attribute.dir, Attribute.name, Attribute.alt, Attribute.tabindex, Attribute.accesskey),
+                id());
+    }
 }
@@ -0,0 +1,40 @@
+/**
+ * Copyright (C) 2008 Ovea <dev@testatoo.org>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.testatoo.cartridge.html4.element;
+
+import org.testatoo.core.component.Component;
+import org.testatoo.core.nature.Container;
+
+import java.util.List;
+
+/**
+ * This interface is implemented by the html elements containing other components : the components missing from
+ * the element are given by a single read, so a failed check can tell which ones are missing.
+ *
+ * @author dev@testatoo.org
+ * @see org.testatoo.cartridge.html4.HtmlEvaluator#missing(Container, Component...)
+ */
+public interface HtmlContainer extends Container {
+
+    /**
+     * To get the given components which are not in the html element
+     *
+     * @param components the components we want to know if contained in the html element
+     * @return the missing components in the given order, empty if all the components are contained
+     */
+    List<Component> missing(Component... components);
+}
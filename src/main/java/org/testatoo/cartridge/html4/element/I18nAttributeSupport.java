@@ -28,14 +28,14 @@ import org.testatoo.core.component.Component;
  */
 public final class I18nAttributeSupport {
 
-    private HtmlEvaluator evaluator;
+    private HtmlEvaluator<?> evaluator;
 
     /**
      * Class constructor specifying the evaluator to use
      *
      * @param evaluator a UI Test engine specific html evaluator
      */
-    I18nAttributeSupport(HtmlEvaluator evaluator) {
+    I18nAttributeSupport(HtmlEvaluator<?> evaluator) {
         this.evaluator = evaluator;
     }
 
@@ -19,7 +19,8 @@ package org.testatoo.cartridge.html4.element;
 import org.testatoo.cartridge.html4.HtmlEvaluator;
 import org.testatoo.core.ComponentException;
 import org.testatoo.core.component.Component;
-import org.testatoo.core.nature.Container;
+
+import java.util.List;
 
 import static org.testatoo.cartridge.html4.element.HtmlElementType.IFrame;
 
@@ -31,8 +32,9 @@ import static org.testatoo.cartridge.html4.element.HtmlElementType.IFrame;
  * @see <a href="http://www.w3.org/TR/html401/present/frames.html#edef-IFRAME"> iframe specification </a>
  */
 
-public final class IFrame extends Component implements Coreattrs, Container {
+public final class IFrame extends Component implements Coreattrs, HtmlContainer, Snapshottable<IFrame> {
 
+    private HtmlEvaluator<?> evaluator;
     private CoreAttributeSupport coreAttributeSupport;
     private AttributeSupport attributeSupport;
 
@@ -43,7 +45,7 @@ public final class IFrame extends Component implements Coreattrs, Container {
      * @param id        the id (unique) of the "iframe" element
      * @throws ComponentException if the given id does not correspond to a "iframe" element
      */
-    public IFrame(HtmlEvaluator evaluator, String id) {
+    public IFrame(HtmlEvaluator<?> evaluator, String id) {
         super(evaluator, id);
         this.evaluator = evaluator;
 
@@ -162,6 +164,16 @@ public final class IFrame extends Component implements Coreattrs, Container {
         return evaluator.contains(this, components);
     }
 
+    /**
+     * To get the given components which are not in the iframe, in one call.
+     *
+     * @param components components we want to know if contained in the iframe
+     * @return the missing components, empty if all the components are contained in the iframe
+     */
+    public List<Component> missing(Component... components) {
+        return evaluator.missing(this, components);
+    }
+
     /**
      * To get the string describing the iframe.
      *
@@ -170,4 +182,13 @@ public final class IFrame extends Component implements Coreattrs, Container {
     public String toString() {
         return super.toString() + ", title:" + title();
     }
+
+    /**
+     * @see Snapshottable
+     */
+    public IFrame snapshot() {
+        return new IFrame(AttributeSnapshot.of(evaluator, id(), Attribute.clazz, Attribute.style, Attribute.title,
+                Attribute.name, Attribute.longdesc, Attribute.src, Attribute.frameborder, Attribute.marginwidth,
+                Attribute.marginheight, Attribute.scrolling), id());
+    }
 }
@@ -28,7 +28,7 @@ import static org.testatoo.cartridge.html4.element.HtmlElementType.Img;
  * @see <a href="http://www.w3.org/TR/html401/struct/objects.html#edef-IMG"> "img" specification </a>
  */
 
-public final class Img extends org.testatoo.core.component.Image implements Coreattrs, I18n {
+public final class Img extends org.testatoo.core.component.Image implements Coreattrs, I18n, Snapshottable<Img> {
 
     private CoreAttributeSupport coreAttributeSupport;
     private I18nAttributeSupport i18nAttributeSupport;
@@ -41,7 +41,7 @@ public final class Img extends org.testatoo.core.component.Image implements Core
      * @param id        the id (unique) of the "img" element
      */
 
-    public Img(HtmlEvaluator evaluator, String id) {
+    public Img(HtmlEvaluator<?> evaluator, String id) {
         super(evaluator, id);
         this.evaluator = evaluator;
 
@@ -151,4 +151,13 @@ public final class Img extends org.testatoo.core.component.Image implements Core
     public String width() {
         return attributeSupport.width(this);
     }
+
+    /**
+     * @see Snapshottable
+     */
+    public Img snapshot() {
+        return new Img(AttributeSnapshot.of(evaluator, id(), Attribute.clazz, Attribute.style, Attribute.title,
+                Attribute.lang, Attribute.dir, Attribute.name, Attribute.alt, Attribute.longdesc, Attribute.usemap,
+                Attribute.height, Attribute.width), id());
+    }
 }
@@ -25,9 +25,9 @@ import org.testatoo.cartridge.html4.HtmlEvaluator;
  * @see <a href="http://www.w3.org/TR/html401/interact/forms.html#edef-INPUT"> "input" specification </a>
  */
 
-public final class InputPassword extends org.testatoo.core.component.PasswordField implements Coreattrs, I18n {
+public final class InputPassword extends org.testatoo.core.component.PasswordField implements Coreattrs, I18n, Snapshottable<InputPassword> {
 
-    private HtmlEvaluator evaluator;
+    private HtmlEvaluator<?> evaluator;
     private CoreAttributeSupport coreAttributeSupport;
     private I18nAttributeSupport i18nAttributeSupport;
     private AttributeSupport attributeSupport;
@@ -38,7 +38,7 @@ public final class InputPassword extends org.testatoo.core.component.PasswordFie
      * @param evaluator a UI Test engine specific html evaluator
      * @param id        the id (unique) of the "input" element
      */
-    public InputPassword(HtmlEvaluator evaluator, String id) {
+    public InputPassword(HtmlEvaluator<?> evaluator, String id) {
         super(evaluator, id);
         this.evaluator = evaluator;
 
@@ -157,4 +157,12 @@ public final class InputPassword extends org.testatoo.core.component.PasswordFie
         return attributeSupport.size(this);
     }
 
+    /**
+     * @see Snapshottable
+     */
+    public InputPassword snapshot() {
+        return new InputPassword(AttributeSnapshot.of(evaluator, id(), Attribute.clazz, Attribute.style,
+                Attribute.title, Attribute.lang, Attribute.dir, Attribute.name, Attribute.alt, Attribute.tabindex,
+                Attribute.accesskey, Attribute.size), id());
+    }
 }
@@ -26,9 +26,9 @@ import org.testatoo.core.nature.SizeSupport;
  * @see <a href="http://www.w3.org/TR/html401/interact/forms.html#edef-INPUT"> "input" specification </a>
  */
 
-public final class InputText extends org.testatoo.core.component.TextField implements Coreattrs, I18n, SizeSupport {
+public final class InputText extends org.testatoo.core.component.TextField implements Coreattrs, I18n, SizeSupport, Snapshottable<InputText> {
 
-    private HtmlEvaluator evaluator;
+    private HtmlEvaluator<?> evaluator;
     private CoreAttributeSupport coreAttributeSupport;
     private I18nAttributeSupport i18nAttributeSupport;
     private AttributeSupport attributeSupport;
@@ -39,7 +39,7 @@ public final class InputText extends org.testatoo.core.component.TextField imple
      * @param evaluator a UI Test engine specific html evaluator
      * @param id        the id (unique) of the "input" element
      */
-    public InputText(HtmlEvaluator evaluator, String id) {
+    public InputText(HtmlEvaluator<?> evaluator, String id) {
         super(evaluator, id);
         this.evaluator = evaluator;
 
@@ -157,4 +157,13 @@ public final class InputText extends org.testatoo.core.component.TextField imple
     public int size() {
         return attributeSupport.size(this);
     }
+
+    /**
+     * @see Snapshottable
+     */
+    public InputText snapshot() {
+        return new InputText(AttributeSnapshot.of(evaluator, id(), Attribute.clazz, Attribute.style, Attribute.title,
+                Attribute.lang, Attribute.dir, Attribute.name, Attribute.alt, Attribute.tabindex, Attribute.accesskey,
+                Attribute.size), id());
+    }
 }
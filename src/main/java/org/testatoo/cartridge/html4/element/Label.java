@@ -30,12 +30,12 @@ import static org.testatoo.cartridge.html4.element.HtmlElementType.Label;
  * @see <a href="http://www.w3.org/TR/html401/interact/forms.html#edef-LABEL"> "label" specification </a>
  */
 
-public final class Label extends Component implements Coreattrs, I18n {
+public final class Label extends Component implements Coreattrs, I18n, Snapshottable<Label> {
 
     private CoreAttributeSupport coreAttributeSupport;
     private I18nAttributeSupport i18nAttributeSupport;
     private AttributeSupport attributeSupport;
-    private HtmlEvaluator evaluator;
+    private HtmlEvaluator<?> evaluator;
 
     /**
      * Class constructor specifying the evaluator to use and the id of the "label" element we want to test.
@@ -44,7 +44,7 @@ public final class Label extends Component implements Coreattrs, I18n {
      * @param id        the id (unique) of the "label" element
      * @throws ComponentException if the given id does not correspond to a "label" element
      */
-    public Label(HtmlEvaluator evaluator, String id) {
+    public Label(HtmlEvaluator<?> evaluator, String id) {
         super(evaluator, id);
         this.evaluator = evaluator;
 
@@ -133,5 +133,11 @@ public final class Label extends Component implements Coreattrs, I18n {
         return super.toString() + ", content: " + content();
     }
 
-
+    /**
+     * @see Snapshottable
+     */
+    public Label snapshot() {
+        return new Label(AttributeSnapshot.of(evaluator, id(), Attribute.clazz, Attribute.style, Attribute.title,
+                Attribute.lang, Attribute.dir, Attribute._for, Attribute.accesskey), id());
+    }
 }
@@ -30,12 +30,12 @@ import static org.testatoo.cartridge.html4.element.HtmlElementType.Legend;
  * @see <a href="http://www.w3.org/TR/html401/interact/forms.html#edef-LEGEND"> "fieldset" specification </a>
  */
 
-public final class Legend extends Component implements Coreattrs, I18n {
+public final class Legend extends Component implements Coreattrs, I18n, Snapshottable<Legend> {
 
     private CoreAttributeSupport coreAttributeSupport;
     private I18nAttributeSupport i18nAttributeSupport;
     private AttributeSupport attributeSupport;
-    private HtmlEvaluator evaluator;
+    private HtmlEvaluator<?> evaluator;
 
     /**
      * Class constructor specifying the evaluator to use and the id of the "legend" element we want to test.
@@ -44,7 +44,7 @@ public final class Legend extends Component implements Coreattrs, I18n {
      * @param id        the id (unique) of the "legend" element
      * @throws ComponentException if the given id does not correspond to a "legend" element
      */
-    public Legend(HtmlEvaluator evaluator, String id) {
+    public Legend(HtmlEvaluator<?> evaluator, String id) {
         super(evaluator, id);
         this.evaluator = evaluator;
 
@@ -119,4 +119,12 @@ public final class Legend extends Component implements Coreattrs, I18n {
     public String toString() {
         return super.toString() + ", title:" + title() + ", content:" + content();
     }
+
+    /**
+     * @see Snapshottable
+     */
+    public Legend snapshot() {
+        return new Legend(AttributeSnapshot.of(evaluator, id(), Attribute.clazz, Attribute.style, Attribute.title,
+                Attribute.lang, Attribute.dir, Attribute.accesskey), id());
+    }
 }
@@ -30,11 +30,11 @@ import static org.testatoo.cartridge.html4.element.HtmlElementType.Li;
  * @see <a href="http://www.w3.org/TR/html401/struct/lists.html#edef-LI"> "li" specification </a>
  */
 
-public final class Li extends Component implements Coreattrs, I18n {
+public final class Li extends Component implements Coreattrs, I18n, Snapshottable<Li> {
 
     private CoreAttributeSupport coreAttributeSupport;
     private I18nAttributeSupport i18nAttributeSupport;
-    private HtmlEvaluator evaluator;
+    private HtmlEvaluator<?> evaluator;
 
 
     /**
@@ -44,7 +44,7 @@ public final class Li extends Component implements Coreattrs, I18n {
      * @param id        the id (unique) of the "li" element
      * @throws ComponentException if the given id does not correspond to a "li" element
      */
-    public Li(HtmlEvaluator evaluator, String id) {
+    public Li(HtmlEvaluator<?> evaluator, String id) {
         super(evaluator, id);
         this.evaluator = evaluator;
 
@@ -107,5 +107,12 @@ public final class Li extends Component implements Coreattrs, I18n {
     public String toString() {
         return super.toString() + ", title:" + title() + ", content:" + content();
     }
-}
 
+    /**
+     * @see Snapshottable
+     */
+    public Li snapshot() {
+        return new Li(AttributeSnapshot.of(evaluator, id(), Attribute.clazz, Attribute.style, Attribute.title,
+                Attribute.lang, Attribute.dir), id());
+    }
+}
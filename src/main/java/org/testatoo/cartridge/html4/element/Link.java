@@ -29,7 +29,7 @@ import static org.testatoo.cartridge.html4.element.HtmlElementType.Link;
  * @see <a href="http://www.w3.org/TR/html401/struct/links.html#edef-LINK"> "link" specification </a>
  */
 
-public final class Link extends org.testatoo.core.component.Link implements Coreattrs, I18n {
+public final class Link extends org.testatoo.core.component.Link implements Coreattrs, I18n, Snapshottable<Link> {
     private CoreAttributeSupport coreAttributeSupport;
     private I18nAttributeSupport i18nAttributeSupport;
     private AttributeSupport attributeSupport;
@@ -41,7 +41,7 @@ public final class Link extends org.testatoo.core.component.Link implements Core
      * @param id        the id (unique) of the "link" element
      * @throws ComponentException if the given id does not correspond to a "link" element
      */
-    public Link(HtmlEvaluator evaluator, String id) {
+    public Link(HtmlEvaluator<?> evaluator, String id) {
         super(evaluator, id);
         this.evaluator = evaluator;
 
@@ -179,4 +179,13 @@ public final class Link extends org.testatoo.core.component.Link implements Core
     public String toString() {
         return super.toString();
     }
+
+    /**
+     * @see Snapshottable
+     */
+    public Link snapshot() {
+        return new Link(AttributeSnapshot.of(evaluator, id(), Attribute.clazz, Attribute.style, Attribute.title,
+                Attribute.lang, Attribute.dir, Attribute.charset, Attribute.href, Attribute.hreflang, Attribute.type,
+                Attribute.rel, Attribute.rev, Attribute.media), id());
+    }
 }
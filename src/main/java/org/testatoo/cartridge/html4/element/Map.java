@@ -20,7 +20,8 @@ import org.testatoo.cartridge.html4.HtmlEvaluator;
 import org.testatoo.core.ComponentException;
 import org.testatoo.core.Selection;
 import org.testatoo.core.component.Component;
-import org.testatoo.core.nature.Container;
+
+import java.util.List;
 
 import static org.testatoo.cartridge.html4.element.HtmlElementType.Map;
 
@@ -31,12 +32,12 @@ import static org.testatoo.cartridge.html4.element.HtmlElementType.Map;
  * @see <a href="http://www.w3.org/TR/html401/struct/objects.html#edef-MAP"> map specification </a>
  */
 
-public final class Map extends Component implements Coreattrs, I18n, Container {
+public final class Map extends Component implements Coreattrs, I18n, HtmlContainer, Snapshottable<Map> {
 
     private CoreAttributeSupport coreAttributeSupport;
     private I18nAttributeSupport i18nAttributeSupport;
     private AttributeSupport attributeSupport;
-    private HtmlEvaluator evaluator;
+    private HtmlEvaluator<?> evaluator;
 
     /**
      * Class constructor specifying the evaluator to use and the id of the "map" element we want to test.
@@ -45,7 +46,7 @@ public final class Map extends Component implements Coreattrs, I18n, Container {
      * @param id        the id (unique) of the "map" element
      * @throws ComponentException if the given id does not correspond to a "map" element
      */
-    public Map(HtmlEvaluator evaluator, String id) {
+    public Map(HtmlEvaluator<?> evaluator, String id) {
         super(evaluator, id);
         this.evaluator = evaluator;
 
@@ -102,6 +103,16 @@ public final class Map extends Component implements Coreattrs, I18n, Container {
         return evaluator.contains(this, components);
     }
 
+    /**
+     * To get the given components which are not in the map, in one call.
+     *
+     * @param components components we want to know if contained in the map
+     * @return the missing components, empty if all the components are contained in the map
+     */
+    public List<Component> missing(Component... components) {
+        return evaluator.missing(this, components);
+    }
+
     /**
      * To get the name attribute of the map.
      *
@@ -140,4 +151,12 @@ public final class Map extends Component implements Coreattrs, I18n, Container {
     public String toString() {
         return super.toString() + ", title:" + title();
     }
+
+    /**
+     * @see Snapshottable
+     */
+    public Map snapshot() {
+        return new Map(AttributeSnapshot.of(evaluator, id(), Attribute.clazz, Attribute.style, Attribute.title,
+                Attribute.lang, Attribute.dir, Attribute.name), id());
+    }
 }
@@ -31,7 +31,7 @@ import static org.testatoo.cartridge.html4.element.HtmlElementType.NoFrames;
  */
 
 
-public final class NoFrames extends Component implements Coreattrs, I18n {
+public final class NoFrames extends Component implements Coreattrs, I18n, Snapshottable<NoFrames> {
 
     private CoreAttributeSupport coreAttributeSupport;
     private I18nAttributeSupport i18nAttributeSupport;
@@ -43,7 +43,7 @@ public final class NoFrames extends Component implements Coreattrs, I18n {
      * @param id        the id (unique) of the "noframes" element
      * @throws ComponentException if the given id does not correspond to a "noframes" element
      */
-    public NoFrames(HtmlEvaluator evaluator, String id) {
+    public NoFrames(HtmlEvaluator<?> evaluator, String id) {
         super(evaluator, id);
         this.evaluator = evaluator;
 
@@ -97,4 +97,12 @@ public final class NoFrames extends Component implements Coreattrs, I18n {
     public String toString() {
         return super.toString() + ", title:" + title();
     }
+
+    /**
+     * @see Snapshottable
+     */
+    public NoFrames snapshot() {
+        return new NoFrames(AttributeSnapshot.of(evaluator, id(), Attribute.clazz, Attribute.style, Attribute.title,
+                Attribute.lang, Attribute.dir), id());
+    }
 }
@@ -20,7 +20,8 @@ import org.testatoo.cartridge.html4.HtmlEvaluator;
 import org.testatoo.core.ComponentException;
 import org.testatoo.core.Selection;
 import org.testatoo.core.component.Component;
-import org.testatoo.core.nature.Container;
+
+import java.util.List;
 
 import static org.testatoo.cartridge.html4.element.HtmlElementType.Object;
 import static org.testatoo.cartridge.html4.element.HtmlElementType.Undefined;
@@ -33,12 +34,12 @@ import static org.testatoo.cartridge.html4.element.HtmlElementType.Undefined;
  * @see <a href="http://www.w3.org/TR/html401/struct/objects.html#edef-OBJECT"> object specification </a>
  */
 
-public final class Object extends Component implements Coreattrs, I18n, Container {
+public final class Object extends Component implements Coreattrs, I18n, HtmlContainer, Snapshottable<Object> {
 
     private CoreAttributeSupport coreAttributeSupport;
     private I18nAttributeSupport i18nAttributeSupport;
     private AttributeSupport attributeSupport;
-    private HtmlEvaluator evaluator;
+    private HtmlEvaluator<?> evaluator;
 
     /**
      * Class constructor specifying the evaluator to use and the id of the "object" element we want to test.
@@ -47,7 +48,7 @@ public final class Object extends Component implements Coreattrs, I18n, Containe
      * @param id        the id (unique) of the "object" element
      * @throws ComponentException if the given id does not correspond to a "object" element
      */
-    public Object(HtmlEvaluator evaluator, String id) {
+    public Object(HtmlEvaluator<?> evaluator, String id) {
         super(evaluator, id);
         this.evaluator = evaluator;
 
@@ -104,6 +105,16 @@ public final class Object extends Component implements Coreattrs, I18n, Containe
         return evaluator.contains(this, components);
     }
 
+    /**
+     * To get the given components which are not in the object, in one call.
+     *
+     * @param components components we want to know if contained in the object
+     * @return the missing components, empty if all the components are contained in the object
+     */
+    public List<Component> missing(Component... components) {
+        return evaluator.missing(this, components);
+    }
+
     /**
      * To get the classid attribute of the object.
      * Classid can be used to specify the location of the object in the form of a URL or Windows Registry location.
@@ -233,5 +244,13 @@ public final class Object extends Component implements Coreattrs, I18n, Containe
         return evaluator.params(this);
     }
 
-
+    /**
+     * @see Snapshottable
+     */
+    public Object snapshot() {
+        return new Object(AttributeSnapshot.of(evaluator, id(), Attribute.clazz, Attribute.style, Attribute.title,
+                Attribute.lang, Attribute.dir, Attribute.classid, Attribute.codebase, Attribute.data, Attribute.type,
+                Attribute.archive, Attribute.codetype, Attribute.standby, Attribute.height, Attribute.width,
+                Attribute.usemap, Attribute.name), id());
+    }
 }
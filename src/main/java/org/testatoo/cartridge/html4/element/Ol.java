@@ -30,7 +30,7 @@ import static org.testatoo.cartridge.html4.element.HtmlElementType.Ol;
  * @see <a href="http://www.w3.org/TR/html401/struct/lists.html#edef-OL"> "ul" specification </a>
  */
 
-public final class Ol extends Component implements Coreattrs, I18n {
+public final class Ol extends Component implements Coreattrs, I18n, Snapshottable<Ol> {
 
     private CoreAttributeSupport coreAttributeSupport;
     private I18nAttributeSupport i18nAttributeSupport;
@@ -42,7 +42,7 @@ public final class Ol extends Component implements Coreattrs, I18n {
      * @param id        the id (unique) of the "ol" element
      * @throws ComponentException if the given id does not correspond to a "ol" element
      */
-    public Ol(HtmlEvaluator evaluator, String id) {
+    public Ol(HtmlEvaluator<?> evaluator, String id) {
         super(evaluator, id);
         this.evaluator = evaluator;
 
@@ -96,5 +96,12 @@ public final class Ol extends Component implements Coreattrs, I18n {
     public String toString() {
         return super.toString() + ", title:" + title();
     }
-}
 
+    /**
+     * @see Snapshottable
+     */
+    public Ol snapshot() {
+        return new Ol(AttributeSnapshot.of(evaluator, id(), Attribute.clazz, Attribute.style, Attribute.title,
+                Attribute.lang, Attribute.dir), id());
+    }
+}
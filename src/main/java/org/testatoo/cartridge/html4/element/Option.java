@@ -29,9 +29,9 @@ import static org.testatoo.cartridge.html4.element.HtmlElementType.Option;
  * @see <a href="http://www.w3.org/TR/html401/interact/forms.html#edef-OPTION"> "option" specification </a>
  */
 
-public final class Option extends org.testatoo.core.component.Field implements Coreattrs, I18n {
+public final class Option extends org.testatoo.core.component.Field implements Coreattrs, I18n, Snapshottable<Option> {
 
-    private HtmlEvaluator htmlEvaluator;
+    private HtmlEvaluator<?> htmlEvaluator;
     private CoreAttributeSupport coreAttributeSupport;
     private I18nAttributeSupport i18nAttributeSupport;
 
@@ -42,7 +42,7 @@ public final class Option extends org.testatoo.core.component.Field implements C
      * @param id        the id (unique) of the "option" element
      * @throws ComponentException if the given id does not correspond to a "option" element
      */
-    public Option(HtmlEvaluator evaluator, String id) {
+    public Option(HtmlEvaluator<?> evaluator, String id) {
         super(evaluator, id);
         htmlEvaluator = evaluator;
 
@@ -133,4 +133,12 @@ public final class Option extends org.testatoo.core.component.Field implements C
     public String toString() {
         return super.toString() + ", text:" + content() + ", selected:" + selected();
     }
+
+    /**
+     * @see Snapshottable
+     */
+    public Option snapshot() {
+        return new Option(AttributeSnapshot.of(htmlEvaluator, id(), Attribute.clazz, Attribute.style, Attribute.title,
+                Attribute.lang, Attribute.dir), id());
+    }
 }
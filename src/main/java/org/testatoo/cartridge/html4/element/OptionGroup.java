@@ -21,7 +21,6 @@ import org.testatoo.core.ComponentException;
 import org.testatoo.core.ListSelection;
 import org.testatoo.core.Selection;
 import org.testatoo.core.component.Component;
-import org.testatoo.core.nature.Container;
 import org.testatoo.core.nature.LabelSupport;
 import org.testatoo.core.nature.TitleSupport;
 
@@ -39,9 +38,9 @@ import static org.testatoo.cartridge.html4.element.HtmlElementType.Undefined;
  * @see <a href="http://www.w3.org/TR/html401/interact/forms.html#edef-OPTGROUP"> "optgroup" specification </a>
  */
 
-public final class OptionGroup extends Component implements Coreattrs, I18n, Container, LabelSupport, TitleSupport {
+public final class OptionGroup extends Component implements Coreattrs, I18n, HtmlContainer, LabelSupport, TitleSupport, Snapshottable<OptionGroup> {
 
-    private HtmlEvaluator evaluator;
+    private HtmlEvaluator<?> evaluator;
     private CoreAttributeSupport coreAttributeSupport;
     private I18nAttributeSupport i18nAttributeSupport;
 
@@ -52,7 +51,7 @@ public final class OptionGroup extends Component implements Coreattrs, I18n, Con
      * @param id        the id (unique) of the "optgroup" element
      * @throws ComponentException if the given id does not correspond to a "optgroup" element
      */
-    public OptionGroup(HtmlEvaluator evaluator, String id) {
+    public OptionGroup(HtmlEvaluator<?> evaluator, String id) {
         super(evaluator, id);
         this.evaluator = evaluator;
 
@@ -108,6 +107,16 @@ public final class OptionGroup extends Component implements Coreattrs, I18n, Con
         return evaluator.contains(this, components);
     }
 
+    /**
+     * To get the given components which are not in the option group, in one call.
+     *
+     * @param components components we want to know if contained in the option group
+     * @return the missing components, empty if all the components are contained in the option group
+     */
+    public List<Component> missing(Component... components) {
+        return evaluator.missing(this, components);
+    }
+
     /**
      * To get the label attribute of the "optgroup" element.
      *
@@ -151,9 +160,17 @@ public final class OptionGroup extends Component implements Coreattrs, I18n, Con
 
     private Selection<String> optionsValue() {
         List<String> optionsValue = new ArrayList<String>();
-        for (Option option : options()) {
-            optionsValue.add(option.value());
+        for (OptionModel.Entry option : evaluator.optionModel(id()).options()) {
+            optionsValue.add(option.value().isEmpty() ? option.text() : option.value());
         }
         return ListSelection.from(optionsValue);
     }
+
+    /**
+     * @see Snapshottable
+     */
+    public OptionGroup snapshot() {
+        return new OptionGroup(AttributeSnapshot.of(evaluator, id(), Attribute.clazz, Attribute.style, Attribute.title,
+                Attribute.lang, Attribute.dir), id());
+    }
 }
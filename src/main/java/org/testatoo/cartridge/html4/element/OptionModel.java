@@ -0,0 +1,172 @@
+/**
+ * Copyright (C) 2008 Ovea <dev@testatoo.org>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.testatoo.cartridge.html4.element;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * This class gives the options of a select (or of an option group) read in one call : the values, texts and
+ * states of all the options are given without any other call to the browser.
+ *
+ * @author dev@testatoo.org
+ * @see org.testatoo.cartridge.html4.HtmlEvaluator#optionModel(String)
+ */
+public final class OptionModel {
+
+    private final List<Entry> options;
+    private final List<String> groupIds;
+
+    /**
+     * Class constructor specifying the options and the option groups
+     *
+     * @param options  the options in the document order
+     * @param groupIds the ids of the option groups in the document order
+     */
+    public OptionModel(List<Entry> options, List<String> groupIds) {
+        this.options = Collections.unmodifiableList(new ArrayList<Entry>(options));
+        this.groupIds = Collections.unmodifiableList(new ArrayList<String>(groupIds));
+    }
+
+    /**
+     * To get the options
+     *
+     * @return the options in the document order
+     */
+    public List<Entry> options() {
+        return options;
+    }
+
+    /**
+     * To get the selected options
+     *
+     * @return the selected options in the document order
+     */
+    public List<Entry> selectedOptions() {
+        List<Entry> selected = new ArrayList<Entry>();
+        for (Entry option : options) {
+            if (option.selected()) {
+                selected.add(option);
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * To get the texts of the options
+     *
+     * @return the texts of the options in the document order
+     */
+    public List<String> texts() {
+        return texts(options);
+    }
+
+    /**
+     * To get the texts of the selected options
+     *
+     * @return the texts of the selected options in the document order
+     */
+    public List<String> selectedTexts() {
+        return texts(selectedOptions());
+    }
+
+    /**
+     * To get the ids of the option groups
+     *
+     * @return the ids of the option groups in the document order
+     */
+    public List<String> groupIds() {
+        return groupIds;
+    }
+
+    private static List<String> texts(List<Entry> options) {
+        List<String> texts = new ArrayList<String>(options.size());
+        for (Entry option : options) {
+            texts.add(option.text());
+        }
+        return texts;
+    }
+
+    /**
+     * The state of an option
+     */
+    public static final class Entry {
+
+        private final String id;
+        private final String value;
+        private final String text;
+        private final String label;
+        private final boolean selected;
+        private final boolean disabled;
+        private final String groupId;
+
+        /**
+         * Class constructor specifying the state of the option
+         *
+         * @param id       the id of the option
+         * @param value    the value of the option
+         * @param text     the text of the option, whitespaces being collapsed
+         * @param label    the label of the option
+         * @param selected true if the option is selected
+         * @param disabled true if the option is disabled
+         * @param groupId  the id of the option group of the option, empty if none
+         */
+        public Entry(String id, String value, String text, String label, boolean selected, boolean disabled, String groupId) {
+            this.id = id;
+            this.value = value;
+            this.text = text;
+            this.label = label;
+            this.selected = selected;
+            this.disabled = disabled;
+            this.groupId = groupId;
+        }
+
+        public String id() {
+            return id;
+        }
+
+        public String value() {
+            return value;
+        }
+
+        public String text() {
+            return text;
+        }
+
+        public String label() {
+            return label;
+        }
+
+        public boolean selected() {
+            return selected;
+        }
+
+        public boolean disabled() {
+            return disabled;
+        }
+
+        public String groupId() {
+            return groupId;
+        }
+
+        @Override
+        public String toString() {
+            return "Option{id='" + id + "', value='" + value + "', text='" + text + "', selected=" + selected + "}";
+        }
+    }
+}
@@ -29,7 +29,7 @@ import static org.testatoo.cartridge.html4.element.HtmlElementType.P;
  * @see <a href="http://www.w3.org/TR/html401/struct/text.html#edef-P"> P specification </a>
  */
 
-public final class P extends Phrase implements Coreattrs, I18n {
+public final class P extends Phrase implements Coreattrs, I18n, Snapshottable<P> {
 
     private CoreAttributeSupport coreAttributeSupport;
     private I18nAttributeSupport i18nAttributeSupport;
@@ -42,7 +42,7 @@ public final class P extends Phrase implements Coreattrs, I18n {
      * @throws org.testatoo.core.ComponentException
      *          if the given id does not correspond to a "a" element
      */
-    public P(HtmlEvaluator evaluator, String id) {
+    public P(HtmlEvaluator<?> evaluator, String id) {
         super(evaluator, id);
         this.evaluator = evaluator;
 
@@ -77,4 +77,12 @@ public final class P extends Phrase implements Coreattrs, I18n {
     public Direction direction() {
         return i18nAttributeSupport.direction(this);
     }
+
+    /**
+     * @see Snapshottable
+     */
+    public P snapshot() {
+        return new P(AttributeSnapshot.of(evaluator, id(), Attribute.clazz, Attribute.style, Attribute.title,
+                Attribute.lang, Attribute.dir), id());
+    }
 }
@@ -31,7 +31,7 @@ import static org.testatoo.cartridge.html4.element.HtmlElementType.Undefined;
  * @see <a href="http://www.w3.org/TR/html401/struct/objects.html#edef-PARAM"> param specification </a>
  */
 
-public final class Param extends Component {
+public final class Param extends Component implements Snapshottable<Param> {
     private AttributeSupport attributeSupport;
 
     /**
@@ -41,7 +41,7 @@ public final class Param extends Component {
      * @param id        the id (unique) of the "param" element
      * @throws ComponentException if the given id does not correspond to a "param" element
      */
-    public Param(HtmlEvaluator evaluator, String id) {
+    public Param(HtmlEvaluator<?> evaluator, String id) {
         super(evaluator, id);
         this.evaluator = evaluator;
 
@@ -110,5 +110,12 @@ public final class Param extends Component {
     public String toString() {
         return super.toString() + ", name:" + name() + ", value:" + value();
     }
-}
 
+    /**
+     * @see Snapshottable
+     */
+    public Param snapshot() {
+        return new Param(AttributeSnapshot.of(evaluator, id(), Attribute.name, Attribute.type, Attribute.value,
+                Attribute.valuetype), id());
+    }
+}
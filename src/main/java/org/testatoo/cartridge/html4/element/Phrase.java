@@ -30,7 +30,7 @@ import org.testatoo.core.nature.TextSupport;
 
 public abstract class Phrase extends Component implements TextSupport {
 
-    HtmlEvaluator evaluator;
+    HtmlEvaluator<?> evaluator;
 
     /**
      * Class constructor specifying the evaluator to use and the id of the phrase element we want to test.
@@ -38,7 +38,7 @@ public abstract class Phrase extends Component implements TextSupport {
      * @param evaluator a UI Test engine specific html evaluator
      * @param id        the id (unique) of the phrase element
      */
-    public Phrase(HtmlEvaluator evaluator, String id) {
+    public Phrase(HtmlEvaluator<?> evaluator, String id) {
         super(evaluator, id);
         this.evaluator = evaluator;
     }
@@ -28,9 +28,9 @@ import static org.testatoo.cartridge.html4.element.HtmlElementType.Radio;
  * @see <a href="http://www.w3.org/TR/html401/interact/forms.html#edef-INPUT"> "input" specification </a>
  */
 
-public final class Radio extends org.testatoo.core.component.Radio implements Coreattrs, I18n {
+public final class Radio extends org.testatoo.core.component.Radio implements Coreattrs, I18n, Snapshottable<Radio> {
 
-    private HtmlEvaluator evaluator;
+    private HtmlEvaluator<?> evaluator;
     private CoreAttributeSupport coreAttributeSupport;
     private I18nAttributeSupport i18nAttributeSupport;
     private AttributeSupport attributeSupport;
@@ -42,7 +42,7 @@ public final class Radio extends org.testatoo.core.component.Radio implements Co
      * @param id        the id (unique) of the "input" element
      * @throws ComponentException if the given id does not correspond to a "input" element with type="radio"
      */
-    public Radio(HtmlEvaluator evaluator, String id) {
+    public Radio(HtmlEvaluator<?> evaluator, String id) {
         super(evaluator, id);
         this.evaluator = evaluator;
 
@@ -154,4 +154,13 @@ public final class Radio extends org.testatoo.core.component.Radio implements Co
     public String accesskey() {
         return attributeSupport.accesskey(this);
     }
+
+    /**
+     * @see Snapshottable
+     */
+    public Radio snapshot() {
+        return new Radio(AttributeSnapshot.of(evaluator, id(), Attribute.clazz, Attribute.style, Attribute.title,
+                Attribute.lang, Attribute.dir, Attribute.value, Attribute.name, Attribute.alt, Attribute.tabindex,
+                Attribute.accesskey), id());
+    }
 }
@@ -29,7 +29,7 @@ import static org.testatoo.cartridge.html4.element.HtmlElementType.Samp;
  * @see <a href="http://www.w3.org/TR/html401/struct/text.html#edef-SAMP"> samp specification </a>
  */
 
-public final class Samp extends Phrase implements Coreattrs, I18n {
+public final class Samp extends Phrase implements Coreattrs, I18n, Snapshottable<Samp> {
 
     private CoreAttributeSupport coreAttributeSupport;
     private I18nAttributeSupport i18nAttributeSupport;
@@ -41,7 +41,7 @@ public final class Samp extends Phrase implements Coreattrs, I18n {
      * @param id        the id (unique) of the samp element
      * @throws ComponentException if the given id does not correspond to a "samp" element
      */
-    public Samp(HtmlEvaluator evaluator, String id) {
+    public Samp(HtmlEvaluator<?> evaluator, String id) {
         super(evaluator, id);
 
         coreAttributeSupport = new CoreAttributeSupport(evaluator);
@@ -85,5 +85,12 @@ public final class Samp extends Phrase implements Coreattrs, I18n {
     public Direction direction() {
         return i18nAttributeSupport.direction(this);
     }
-}
 
+    /**
+     * @see Snapshottable
+     */
+    public Samp snapshot() {
+        return new Samp(AttributeSnapshot.of(evaluator, id(), Attribute.clazz, Attribute.style, Attribute.title,
+                Attribute.lang, Attribute.dir), id());
+    }
+}
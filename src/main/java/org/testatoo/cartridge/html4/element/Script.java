@@ -30,7 +30,7 @@ import static org.testatoo.cartridge.html4.element.HtmlElementType.Script;
  * @see <a href="http://www.w3.org/TR/html401/interact/scripts.html#edef-SCRIPT"> "script" specification </a>
  */
 
-public final class Script extends Component {
+public final class Script extends Component implements Snapshottable<Script> {
     private AttributeSupport attributeSupport;
 
     /**
@@ -40,7 +40,7 @@ public final class Script extends Component {
      * @param id        the id (unique) of the "script" element
      * @throws ComponentException if the given id does not correspond to a "script" element
      */
-    public Script(HtmlEvaluator evaluator, String id) {
+    public Script(HtmlEvaluator<?> evaluator, String id) {
         super(evaluator, id);
         this.evaluator = evaluator;
         attributeSupport = new AttributeSupport(evaluator);
@@ -96,4 +96,12 @@ public final class Script extends Component {
     public String toString() {
         return super.toString() + ", source:" + src();
     }
+
+    /**
+     * @see Snapshottable
+     */
+    public Script snapshot() {
+        return new Script(AttributeSnapshot.of(evaluator, id(), Attribute.charset, Attribute.type, Attribute.src),
+                id());
+    }
 }
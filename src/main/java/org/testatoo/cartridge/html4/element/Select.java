@@ -23,9 +23,6 @@ import org.testatoo.core.Selection;
 import org.testatoo.core.nature.LabelSupport;
 import org.testatoo.core.nature.MultiSelectable;
 
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * This class allows the testing of the "select" element properties for html4.
  * Select is a drop-down list ; each list item of a select is an option element.
@@ -34,9 +31,9 @@ import java.util.List;
  * @see <a href="http://www.w3.org/TR/html401/interact/forms.html#edef-SELECT"> "select" specification </a>
  */
 
-public final class Select extends org.testatoo.core.component.ListModel implements MultiSelectable, LabelSupport, Coreattrs, I18n {
+public final class Select extends org.testatoo.core.component.ListModel implements MultiSelectable, LabelSupport, Coreattrs, I18n, Snapshottable<Select> {
 
-    private HtmlEvaluator evaluator;
+    private HtmlEvaluator<?> evaluator;
     private CoreAttributeSupport coreAttributeSupport;
     private I18nAttributeSupport i18nAttributeSupport;
     private AttributeSupport attributeSupport;
@@ -47,7 +44,7 @@ public final class Select extends org.testatoo.core.component.ListModel implemen
      * @param evaluator a UI Test engine specific html evaluator
      * @param id        the id (unique) of the "select" element
      */
-    public Select(HtmlEvaluator evaluator, String id) {
+    public Select(HtmlEvaluator<?> evaluator, String id) {
         super(evaluator, id);
         this.evaluator = evaluator;
 
@@ -131,6 +128,20 @@ public final class Select extends org.testatoo.core.component.ListModel implemen
         evaluator.select(value, this);
     }
 
+    /**
+     * To select in one call the items with the given values in a multi select.
+     * If no item has a given value as content, the item with this value attribute is selected
+     *
+     * @param values the values of the items we want to select
+     * @return the number of items matching the given values
+     */
+    public int selectAll(String... values) {
+        if (isMultiple())
+            return evaluator.selectAll(this, values);
+        else
+            throw new ComponentException("Unable to select several values : Select is no a multi select.");
+    }
+
     /**
      * To unselect in the list an item with a given value.
      * If the item has no value, the item with the content equals to the value is deselected
@@ -150,11 +161,7 @@ public final class Select extends org.testatoo.core.component.ListModel implemen
      * @return a list of String
      */
     public Selection<String> values() {
-        List<String> optionsValue = new ArrayList<String>();
-        for (Option option : options()) {
-            optionsValue.add(option.content());
-        }
-        return ListSelection.from(optionsValue);
+        return ListSelection.from(evaluator.optionModel(id()).texts());
     }
 
 
@@ -259,10 +266,15 @@ public final class Select extends org.testatoo.core.component.ListModel implemen
     }
 
     private Selection<String> lstSelectedValues() {
-        List<String> selectedValues = new ArrayList<String>();
-        for (Option option : selectedOptions()) {
-            selectedValues.add(option.content());
-        }
-        return ListSelection.from(selectedValues);
+        return ListSelection.from(evaluator.optionModel(id()).selectedTexts());
+    }
+
+    /**
+     * @see Snapshottable
+     */
+    public Select snapshot() {
+        return new Select(AttributeSnapshot.of(evaluator, id(), Attribute.clazz, Attribute.style, Attribute.title,
+                Attribute.lang, Attribute.dir, Attribute.name, Attribute.tabindex, Attribute.multiple, Attribute.size),
+                id());
     }
 }
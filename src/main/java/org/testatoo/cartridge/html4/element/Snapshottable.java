@@ -0,0 +1,35 @@
+/**
+ * Copyright (C) 2008 Ovea <dev@testatoo.org>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.testatoo.cartridge.html4.element;
+
+/**
+ * This interface is implemented by the html elements of which a snapshot can be taken : the attributes of the element
+ * are read in one call when the snapshot is taken and the attribute getters of the snapshot give the values read at
+ * that time. The other methods of the snapshot read the page as the element does.
+ *
+ * @param <T> the type of the html element
+ * @author dev@testatoo.org
+ */
+public interface Snapshottable<T> {
+
+    /**
+     * To get a snapshot of the html element
+     *
+     * @return the snapshot of the html element
+     */
+    T snapshot();
+}
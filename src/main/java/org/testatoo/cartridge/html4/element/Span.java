@@ -31,9 +31,9 @@ import static org.testatoo.cartridge.html4.element.HtmlElementType.Span;
  * @see <a href="http://www.w3.org/TR/html401/struct/global.html#edef-SPAN"> "span" specification </a>
  */
 
-public final class Span extends Component implements Coreattrs, I18n, TextSupport {
+public final class Span extends Component implements Coreattrs, I18n, TextSupport, Snapshottable<Span> {
 
-    private HtmlEvaluator evaluator;
+    private HtmlEvaluator<?> evaluator;
     private CoreAttributeSupport coreAttributeSupport;
     private I18nAttributeSupport i18nAttributeSupport;
 
@@ -45,7 +45,7 @@ public final class Span extends Component implements Coreattrs, I18n, TextSuppor
      * @throws org.testatoo.core.ComponentException
      *          if the given id does not correspond to a "acronym" element
      */
-    public Span(HtmlEvaluator evaluator, String id) {
+    public Span(HtmlEvaluator<?> evaluator, String id) {
         super(evaluator, id);
         this.evaluator = evaluator;
 
@@ -94,4 +94,11 @@ public final class Span extends Component implements Coreattrs, I18n, TextSuppor
         return super.toString() + ", title:" + title();
     }
 
+    /**
+     * @see Snapshottable
+     */
+    public Span snapshot() {
+        return new Span(AttributeSnapshot.of(evaluator, id(), Attribute.clazz, Attribute.style, Attribute.title,
+                Attribute.lang, Attribute.dir), id());
+    }
 }
@@ -29,7 +29,7 @@ import static org.testatoo.cartridge.html4.element.HtmlElementType.Strong;
  * @see <a href="http://www.w3.org/TR/html401/struct/text.html#edef-STRONG"> strong specification </a>
  */
 
-public final class Strong extends Phrase implements Coreattrs, I18n {
+public final class Strong extends Phrase implements Coreattrs, I18n, Snapshottable<Strong> {
 
     private CoreAttributeSupport coreAttributeSupport;
     private I18nAttributeSupport i18nAttributeSupport;
@@ -41,7 +41,7 @@ public final class Strong extends Phrase implements Coreattrs, I18n {
      * @param id        the id (unique) of the strong element
      * @throws ComponentException if the given id does not correspond to a "strong" element
      */
-    public Strong(HtmlEvaluator evaluator, String id) {
+    public Strong(HtmlEvaluator<?> evaluator, String id) {
         super(evaluator, id);
 
         coreAttributeSupport = new CoreAttributeSupport(evaluator);
@@ -85,4 +85,12 @@ public final class Strong extends Phrase implements Coreattrs, I18n {
     public Direction direction() {
         return i18nAttributeSupport.direction(this);
     }
+
+    /**
+     * @see Snapshottable
+     */
+    public Strong snapshot() {
+        return new Strong(AttributeSnapshot.of(evaluator, id(), Attribute.clazz, Attribute.style, Attribute.title,
+                Attribute.lang, Attribute.dir), id());
+    }
 }
@@ -20,7 +20,8 @@ import org.testatoo.cartridge.html4.HtmlEvaluator;
 import org.testatoo.core.ComponentException;
 import org.testatoo.core.Selection;
 import org.testatoo.core.component.Component;
-import org.testatoo.core.nature.Container;
+
+import java.util.List;
 
 import static org.testatoo.cartridge.html4.element.HtmlElementType.TBody;
 
@@ -30,12 +31,12 @@ import static org.testatoo.cartridge.html4.element.HtmlElementType.TBody;
  * @author dev@testatoo.org
  * @see <a href="http://www.w3.org/TR/html401/struct/tables.html#edef-TBODY"> "TBody" specification </a>
  */
-public final class TBody extends Component implements Coreattrs, I18n, Container {
+public final class TBody extends Component implements Coreattrs, I18n, HtmlContainer, Snapshottable<TBody> {
 
     private CoreAttributeSupport coreAttributeSupport;
     private I18nAttributeSupport i18nAttributeSupport;
     private AttributeSupport attributeSupport;
-    private HtmlEvaluator evaluator;
+    private HtmlEvaluator<?> evaluator;
 
     /**
      * Class constructor specifying the evaluator to use and the id of the TBody element we want to test.
@@ -44,7 +45,7 @@ public final class TBody extends Component implements Coreattrs, I18n, Container
      * @param id        the id (unique) of the TBody element
      * @throws ComponentException if the given id does not correspond to a "TBody" element
      */
-    public TBody(HtmlEvaluator evaluator, String id) {
+    public TBody(HtmlEvaluator<?> evaluator, String id) {
         super(evaluator, id);
         this.evaluator = evaluator;
 
@@ -101,6 +102,16 @@ public final class TBody extends Component implements Coreattrs, I18n, Container
         return evaluator.contains(this, components);
     }
 
+    /**
+     * To get the given components which are not in the table body, in one call.
+     *
+     * @param components components we want to know if contained in the table body
+     * @return the missing components, empty if all the components are contained in the table body
+     */
+    public List<Component> missing(Component... components) {
+        return evaluator.missing(this, components);
+    }
+
     /**
      * To get the cellhalign attribute of the TBody element
      *
@@ -138,4 +149,12 @@ public final class TBody extends Component implements Coreattrs, I18n, Container
     public String toString() {
         return super.toString() + ", title:" + title();
     }
+
+    /**
+     * @see Snapshottable
+     */
+    public TBody snapshot() {
+        return new TBody(AttributeSnapshot.of(evaluator, id(), Attribute.clazz, Attribute.style, Attribute.title,
+                Attribute.lang, Attribute.dir, Attribute.cellhalign, Attribute.cellvalign), id());
+    }
 }
@@ -20,7 +20,8 @@ import org.testatoo.cartridge.html4.HtmlEvaluator;
 import org.testatoo.core.ComponentException;
 import org.testatoo.core.Selection;
 import org.testatoo.core.component.Component;
-import org.testatoo.core.nature.Container;
+
+import java.util.List;
 
 import static org.testatoo.cartridge.html4.element.HtmlElementType.TFoot;
 
@@ -31,12 +32,12 @@ import static org.testatoo.cartridge.html4.element.HtmlElementType.TFoot;
  * @see <a href="http://www.w3.org/TR/html401/struct/tables.html#edef-TFOOT"> "TFoot" specification </a>
  */
 
-public final class TFoot extends Component implements Coreattrs, I18n, Container {
+public final class TFoot extends Component implements Coreattrs, I18n, HtmlContainer, Snapshottable<TFoot> {
 
     private CoreAttributeSupport coreAttributeSupport;
     private I18nAttributeSupport i18nAttributeSupport;
     private AttributeSupport attributeSupport;
-    private HtmlEvaluator evaluator;
+    private HtmlEvaluator<?> evaluator;
 
     /**
      * Class constructor specifying the evaluator to use and the id of the TFoot element we want to test.
@@ -45,7 +46,7 @@ public final class TFoot extends Component implements Coreattrs, I18n, Container
      * @param id        the id (unique) of the TFoot element
      * @throws ComponentException if the given id does not correspond to a "TFoot" element
      */
-    public TFoot(HtmlEvaluator evaluator, String id) {
+    public TFoot(HtmlEvaluator<?> evaluator, String id) {
         super(evaluator, id);
         this.evaluator = evaluator;
 
@@ -102,6 +103,16 @@ public final class TFoot extends Component implements Coreattrs, I18n, Container
         return evaluator.contains(this, components);
     }
 
+    /**
+     * To get the given components which are not in the table footer, in one call.
+     *
+     * @param components components we want to know if contained in the table footer
+     * @return the missing components, empty if all the components are contained in the table footer
+     */
+    public List<Component> missing(Component... components) {
+        return evaluator.missing(this, components);
+    }
+
     /**
      * To get the cellhalign attribute of the table footer
      *
@@ -139,4 +150,12 @@ public final class TFoot extends Component implements Coreattrs, I18n, Container
     public String toString() {
         return super.toString() + ", title:" + title();
     }
-}
\ No newline at end of file
+
+    /**
+     * @see Snapshottable
+     */
+    public TFoot snapshot() {
+        return new TFoot(AttributeSnapshot.of(evaluator, id(), Attribute.clazz, Attribute.style, Attribute.title,
+                Attribute.lang, Attribute.dir, Attribute.cellhalign, Attribute.cellvalign), id());
+    }
+}
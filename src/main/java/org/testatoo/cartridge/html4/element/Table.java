@@ -20,7 +20,8 @@ import org.testatoo.cartridge.html4.HtmlEvaluator;
 import org.testatoo.core.ComponentException;
 import org.testatoo.core.Selection;
 import org.testatoo.core.component.Component;
-import org.testatoo.core.nature.Container;
+
+import java.util.List;
 
 import static org.testatoo.cartridge.html4.element.HtmlElementType.Table;
 
@@ -31,12 +32,12 @@ import static org.testatoo.cartridge.html4.element.HtmlElementType.Table;
  * @see <a href="http://www.w3.org/TR/html401/struct/tables.html#edef-TABLE"> "table" specification </a>
  */
 
-public final class Table extends org.testatoo.core.component.datagrid.DataGrid implements Coreattrs, I18n, Container {
+public final class Table extends org.testatoo.core.component.datagrid.DataGrid implements Coreattrs, I18n, HtmlContainer, Snapshottable<Table> {
 
     private CoreAttributeSupport coreAttributeSupport;
     private I18nAttributeSupport i18nAttributeSupport;
     private AttributeSupport attributeSupport;
-    private HtmlEvaluator evaluator;
+    private HtmlEvaluator<?> evaluator;
 
     /**
      * Class constructor specifying the evaluator to use and the id of the table element we want to test.
@@ -45,7 +46,7 @@ public final class Table extends org.testatoo.core.component.datagrid.DataGrid i
      * @param id        the id (unique) of the table element
      * @throws ComponentException if the given id does not correspond to a "table" element
      */
-    public Table(HtmlEvaluator evaluator, String id) {
+    public Table(HtmlEvaluator<?> evaluator, String id) {
         super(evaluator, id);
         this.evaluator = evaluator;
 
@@ -102,6 +103,16 @@ public final class Table extends org.testatoo.core.component.datagrid.DataGrid i
         return evaluator.contains(this, components);
     }
 
+    /**
+     * To get the given components which are not in the table, in one call.
+     *
+     * @param components components we want to know if contained in the table
+     * @return the missing components, empty if all the components are contained in the table
+     */
+    public List<Component> missing(Component... components) {
+        return evaluator.missing(this, components);
+    }
+
     /**
      * To get the summary attribute of the table (summary of the data represented in the table).
      *
@@ -238,4 +249,23 @@ public final class Table extends org.testatoo.core.component.datagrid.DataGrid i
     public Selection<Tr> tr() {
         return evaluator.tr(this);
     }
+
+    /**
+     * To get the headers, the rows and the cells of the table in one call.
+     * The columns, rows and cells of the table then give their text without reading it again.
+     *
+     * @return the model of the table
+     */
+    public TableModel model() {
+        return evaluator.tableModel(id());
+    }
+
+    /**
+     * @see Snapshottable
+     */
+    public Table snapshot() {
+        return new Table(AttributeSnapshot.of(evaluator, id(), Attribute.clazz, Attribute.style, Attribute.title,
+                Attribute.lang, Attribute.dir, Attribute.summary, Attribute.width, Attribute.border, Attribute.frame,
+                Attribute.rules, Attribute.cellspacing, Attribute.cellpadding), id());
+    }
 }
@@ -0,0 +1,214 @@
+/**
+ * Copyright (C) 2008 Ovea <dev@testatoo.org>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.testatoo.cartridge.html4.element;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * This class gives a table read in one call : the ids and the texts of the headers, of the rows and of their cells
+ * are given as a matrix without any other call to the browser.
+ * The headers are the th elements of the last row of the thead, the rows are the tr elements of the tbody.
+ *
+ * @author dev@testatoo.org
+ * @see org.testatoo.cartridge.html4.HtmlEvaluator#tableModel(String)
+ */
+public final class TableModel {
+
+    private final List<Entry> headers;
+    private final List<RowEntry> rows;
+
+    /**
+     * Class constructor specifying the headers and the rows
+     *
+     * @param headers the headers in the document order
+     * @param rows    the rows in the document order
+     */
+    public TableModel(List<Entry> headers, List<RowEntry> rows) {
+        this.headers = Collections.unmodifiableList(new ArrayList<Entry>(headers));
+        this.rows = Collections.unmodifiableList(new ArrayList<RowEntry>(rows));
+    }
+
+    /**
+     * To get the headers
+     *
+     * @return the headers in the document order
+     */
+    public List<Entry> headers() {
+        return headers;
+    }
+
+    /**
+     * To get the rows
+     *
+     * @return the rows in the document order
+     */
+    public List<RowEntry> rows() {
+        return rows;
+    }
+
+    /**
+     * To get the texts of the headers
+     *
+     * @return the texts of the headers in the document order
+     */
+    public List<String> headerTexts() {
+        return texts(headers);
+    }
+
+    /**
+     * To get the texts of the cells
+     *
+     * @return the texts of the cells, row by row
+     */
+    public List<List<String>> texts() {
+        List<List<String>> texts = new ArrayList<List<String>>(rows.size());
+        for (RowEntry row : rows) {
+            texts.add(texts(row.cells()));
+        }
+        return texts;
+    }
+
+    /**
+     * To get the position of a header
+     *
+     * @param id the id of the header
+     * @return the index of the header, -1 if the id is not one of a header
+     */
+    public int columnIndex(String id) {
+        return index(headers, id);
+    }
+
+    /**
+     * To get the position of a row
+     *
+     * @param id the id of the row
+     * @return the index of the row, -1 if the id is not one of a row
+     */
+    public int rowIndex(String id) {
+        for (int i = 0; i < rows.size(); i++) {
+            if (rows.get(i).id().equals(id)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * To get the cells of a column
+     *
+     * @param index the index of the column
+     * @return the cells at this index in each row, the rows without such a cell being skipped
+     */
+    public List<Entry> column(int index) {
+        List<Entry> cells = new ArrayList<Entry>(rows.size());
+        for (RowEntry row : rows) {
+            if (index < row.cells().size()) {
+                cells.add(row.cells().get(index));
+            }
+        }
+        return cells;
+    }
+
+    private static int index(List<Entry> entries, String id) {
+        for (int i = 0; i < entries.size(); i++) {
+            if (entries.get(i).id().equals(id)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static List<String> texts(List<Entry> entries) {
+        List<String> texts = new ArrayList<String>(entries.size());
+        for (Entry entry : entries) {
+            texts.add(entry.text());
+        }
+        return texts;
+    }
+
+    /**
+     * A header or a cell
+     */
+    public static final class Entry {
+
+        private final String id;
+        private final String text;
+
+        /**
+         * Class constructor specifying the id and the text of the header or of the cell
+         *
+         * @param id   the id of the header or of the cell
+         * @param text the text of the header or of the cell, whitespaces being collapsed
+         */
+        public Entry(String id, String text) {
+            this.id = id;
+            this.text = text;
+        }
+
+        public String id() {
+            return id;
+        }
+
+        public String text() {
+            return text;
+        }
+
+        @Override
+        public String toString() {
+            return "Cell{id='" + id + "', text='" + text + "'}";
+        }
+    }
+
+    /**
+     * A row and its cells
+     */
+    public static final class RowEntry {
+
+        private final String id;
+        private final List<Entry> cells;
+
+        /**
+         * Class constructor specifying the id and the cells of the row
+         *
+         * @param id    the id of the row
+         * @param cells the cells of the row in the document order
+         */
+        public RowEntry(String id, List<Entry> cells) {
+            this.id = id;
+            this.cells = Collections.unmodifiableList(new ArrayList<Entry>(cells));
+        }
+
+        public String id() {
+            return id;
+        }
+
+        public List<Entry> cells() {
+            return cells;
+        }
+
+        public List<String> texts() {
+            return TableModel.texts(cells);
+        }
+
+        @Override
+        public String toString() {
+            return "Row{id='" + id + "', cells=" + cells + "}";
+        }
+    }
+}
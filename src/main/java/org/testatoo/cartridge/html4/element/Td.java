@@ -29,12 +29,12 @@ import static org.testatoo.cartridge.html4.element.HtmlElementType.Td;
  * @see <a href="http://www.w3.org/TR/html401/struct/tables.html#edef-TD"> "td" specification </a>
  */
 
-public final class Td extends Component implements Coreattrs, I18n {
+public final class Td extends Component implements Coreattrs, I18n, Snapshottable<Td> {
 
     private CoreAttributeSupport coreAttributeSupport;
     private I18nAttributeSupport i18nAttributeSupport;
     private AttributeSupport attributeSupport;
-    private HtmlEvaluator evaluator;
+    private HtmlEvaluator<?> evaluator;
 
     /**
      * Class constructor specifying the evaluator to use and the id of the td element we want to test.
@@ -43,7 +43,7 @@ public final class Td extends Component implements Coreattrs, I18n {
      * @param id        the id (unique) of the td element
      * @throws ComponentException if the given id does not correspond to a "td" element
      */
-    public Td(HtmlEvaluator evaluator, String id) {
+    public Td(HtmlEvaluator<?> evaluator, String id) {
         super(evaluator, id);
         this.evaluator = evaluator;
 
@@ -194,4 +194,13 @@ public final class Td extends Component implements Coreattrs, I18n {
     public String toString() {
         return super.toString() + ", title:" + title() + ", content:" + content();
     }
+
+    /**
+     * @see Snapshottable
+     */
+    public Td snapshot() {
+        return new Td(AttributeSnapshot.of(evaluator, id(), Attribute.clazz, Attribute.style, Attribute.title,
+                Attribute.lang, Attribute.dir, Attribute.abbr, Attribute.axis, Attribute.headers, Attribute.rowspan,
+                Attribute.colspan, Attribute.scope, Attribute.cellhalign, Attribute.cellvalign), id());
+    }
 }
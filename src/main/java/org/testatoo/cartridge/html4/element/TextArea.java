@@ -28,9 +28,9 @@ import static org.testatoo.cartridge.html4.element.HtmlElementType.TextArea;
  * @see <a href="http://www.w3.org/TR/html401/interact/forms.html#edef-TEXTAREA"> "textarea" specification </a>
  */
 
-public final class TextArea extends org.testatoo.core.component.TextField implements Coreattrs, I18n {
+public final class TextArea extends org.testatoo.core.component.TextField implements Coreattrs, I18n, Snapshottable<TextArea> {
 
-    private HtmlEvaluator evaluator;
+    private HtmlEvaluator<?> evaluator;
     private CoreAttributeSupport coreAttributeSupport;
     private I18nAttributeSupport i18nAttributeSupport;
     private AttributeSupport attributeSupport;
@@ -42,7 +42,7 @@ public final class TextArea extends org.testatoo.core.component.TextField implem
      * @param id        the id (unique) of the textarea element
      * @throws ComponentException if the given id does not correspond to a "textarea" element
      */
-    public TextArea(HtmlEvaluator evaluator, String id) {
+    public TextArea(HtmlEvaluator<?> evaluator, String id) {
         super(evaluator, id);
         this.evaluator = evaluator;
 
@@ -160,4 +160,13 @@ public final class TextArea extends org.testatoo.core.component.TextField implem
     public String accesskey() {
         return attributeSupport.accesskey(this);
     }
+
+    /**
+     * @see Snapshottable
+     */
+    public TextArea snapshot() {
+        return new TextArea(AttributeSnapshot.of(evaluator, id(), Attribute.clazz, Attribute.style, Attribute.title,
+                Attribute.lang, Attribute.dir, Attribute.rows, Attribute.cols, Attribute.name, Attribute.tabindex,
+                Attribute.accesskey), id());
+    }
 }
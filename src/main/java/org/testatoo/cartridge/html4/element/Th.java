@@ -19,7 +19,8 @@ package org.testatoo.cartridge.html4.element;
 import org.testatoo.cartridge.html4.HtmlEvaluator;
 import org.testatoo.core.ComponentException;
 import org.testatoo.core.component.Component;
-import org.testatoo.core.nature.Container;
+
+import java.util.List;
 
 import static org.testatoo.cartridge.html4.element.HtmlElementType.Th;
 
@@ -30,12 +31,12 @@ import static org.testatoo.cartridge.html4.element.HtmlElementType.Th;
  * @see <a href="http://www.w3.org/TR/html401/struct/tables.html#edef-TH"> "td" specification </a>
  */
 
-public final class Th extends Component implements Coreattrs, I18n, Container {
+public final class Th extends Component implements Coreattrs, I18n, HtmlContainer, Snapshottable<Th> {
 
     private CoreAttributeSupport coreAttributeSupport;
     private I18nAttributeSupport i18nAttributeSupport;
     private AttributeSupport attributeSupport;
-    private HtmlEvaluator evaluator;
+    private HtmlEvaluator<?> evaluator;
 
     /**
      * Class constructor specifying the evaluator to use and the id of the th element we want to test.
@@ -44,7 +45,7 @@ public final class Th extends Component implements Coreattrs, I18n, Container {
      * @param id        the id (unique) of the th element
      * @throws ComponentException if the given id does not correspond to a "th" element
      */
-    public Th(HtmlEvaluator evaluator, String id) {
+    public Th(HtmlEvaluator<?> evaluator, String id) {
         super(evaluator, id);
         this.evaluator = evaluator;
 
@@ -101,6 +102,16 @@ public final class Th extends Component implements Coreattrs, I18n, Container {
         return evaluator.contains(this, components);
     }
 
+    /**
+     * To get the given components which are not in the table header cell, in one call.
+     *
+     * @param components components we want to know if contained in the table header cell
+     * @return the missing components, empty if all the components are contained in the table header cell
+     */
+    public List<Component> missing(Component... components) {
+        return evaluator.missing(this, components);
+    }
+
     /**
      * To get the abbr attribute of the th element.
      * Abbr can be used to specify an abbreviated version of the content of the cell.
@@ -204,4 +215,13 @@ public final class Th extends Component implements Coreattrs, I18n, Container {
     public String toString() {
         return super.toString() + ", title:" + title();
     }
+
+    /**
+     * @see Snapshottable
+     */
+    public Th snapshot() {
+        return new Th(AttributeSnapshot.of(evaluator, id(), Attribute.clazz, Attribute.style, Attribute.title,
+                Attribute.lang, Attribute.dir, Attribute.abbr, Attribute.axis, Attribute.headers, Attribute.rowspan,
+                Attribute.colspan, Attribute.scope, Attribute.cellhalign, Attribute.cellvalign), id());
+    }
 }
@@ -30,11 +30,11 @@ import static org.testatoo.cartridge.html4.element.HtmlElementType.Title;
  * @see <a href="http://www.w3.org/TR/html4/struct/global.html#edef-H1"> "h1... h6" specification </a>
  */
 
-public class Title extends Component implements Coreattrs, I18n, TextSupport {
+public class Title extends Component implements Coreattrs, I18n, TextSupport, Snapshottable<Title> {
 
     private CoreAttributeSupport coreAttributeSupport;
     private I18nAttributeSupport i18nAttributeSupport;
-    private HtmlEvaluator evaluator;
+    private HtmlEvaluator<?> evaluator;
 
     public enum Level {
         H1, H2, H3, H4, H5, H6
@@ -47,7 +47,7 @@ public class Title extends Component implements Coreattrs, I18n, TextSupport {
      * @param id        the id (unique) of the H1...H6 element
      * @throws ComponentException if the given id does not correspond to a "th" element
      */
-    public Title(HtmlEvaluator evaluator, String id) {
+    public Title(HtmlEvaluator<?> evaluator, String id) {
         super(evaluator, id);
         this.evaluator = evaluator;
 
@@ -96,4 +96,12 @@ public class Title extends Component implements Coreattrs, I18n, TextSupport {
     public String toString() {
         return super.toString() + ", text:" + text();
     }
+
+    /**
+     * @see Snapshottable
+     */
+    public Title snapshot() {
+        return new Title(AttributeSnapshot.of(evaluator, id(), Attribute.clazz, Attribute.style, Attribute.title,
+                Attribute.lang, Attribute.dir), id());
+    }
 }
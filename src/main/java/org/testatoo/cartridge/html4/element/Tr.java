@@ -20,7 +20,8 @@ import org.testatoo.cartridge.html4.HtmlEvaluator;
 import org.testatoo.core.ComponentException;
 import org.testatoo.core.Selection;
 import org.testatoo.core.component.Component;
-import org.testatoo.core.nature.Container;
+
+import java.util.List;
 
 import static org.testatoo.cartridge.html4.element.HtmlElementType.Tr;
 
@@ -30,12 +31,12 @@ import static org.testatoo.cartridge.html4.element.HtmlElementType.Tr;
  * @author dev@testatoo.org
  * @see <a href="http://www.w3.org/TR/html401/struct/tables.html#edef-TR"> "tr" specification </a>
  */
-public class Tr extends Component implements Coreattrs, I18n, Container {
+public class Tr extends Component implements Coreattrs, I18n, HtmlContainer, Snapshottable<Tr> {
 
     private CoreAttributeSupport coreAttributeSupport;
     private I18nAttributeSupport i18nAttributeSupport;
     private AttributeSupport attributeSupport;
-    private HtmlEvaluator evaluator;
+    private HtmlEvaluator<?> evaluator;
 
     /**
      * Class constructor specifying the evaluator to use and the id of the tr element we want to test.
@@ -44,7 +45,7 @@ public class Tr extends Component implements Coreattrs, I18n, Container {
      * @param id        the id (unique) of the tr element
      * @throws ComponentException if the given id does not correspond to a "tr" element
      */
-    public Tr(HtmlEvaluator evaluator, String id) {
+    public Tr(HtmlEvaluator<?> evaluator, String id) {
         super(evaluator, id);
         this.evaluator = evaluator;
 
@@ -101,6 +102,16 @@ public class Tr extends Component implements Coreattrs, I18n, Container {
         return evaluator.contains(this, components);
     }
 
+    /**
+     * To get the given components which are not in the table row, in one call.
+     *
+     * @param components components we want to know if contained in the table row
+     * @return the missing components, empty if all the components are contained in the table row
+     */
+    public List<Component> missing(Component... components) {
+        return evaluator.missing(this, components);
+    }
+
     /**
      * To get the cellhalign attribute of the tr element.
      *
@@ -147,4 +158,12 @@ public class Tr extends Component implements Coreattrs, I18n, Container {
     public String toString() {
         return super.toString() + ", title:" + title();
     }
+
+    /**
+     * @see Snapshottable
+     */
+    public Tr snapshot() {
+        return new Tr(AttributeSnapshot.of(evaluator, id(), Attribute.clazz, Attribute.style, Attribute.title,
+                Attribute.lang, Attribute.dir, Attribute.cellhalign, Attribute.cellvalign), id());
+    }
 }
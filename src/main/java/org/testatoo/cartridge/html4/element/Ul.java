@@ -30,7 +30,7 @@ import static org.testatoo.cartridge.html4.element.HtmlElementType.Ul;
  * @see <a href="http://www.w3.org/TR/html401/struct/lists.html#edef-UL"> "ul" specification </a>
  */
 
-public final class Ul extends Component implements Coreattrs, I18n {
+public final class Ul extends Component implements Coreattrs, I18n, Snapshottable<Ul> {
 
     private CoreAttributeSupport coreAttributeSupport;
     private I18nAttributeSupport i18nAttributeSupport;
@@ -42,7 +42,7 @@ public final class Ul extends Component implements Coreattrs, I18n {
      * @param id        the id (unique) of the "ul" element
      * @throws ComponentException if the given id does not correspond to a "ul" element
      */
-    public Ul(HtmlEvaluator evaluator, String id) {
+    public Ul(HtmlEvaluator<?> evaluator, String id) {
         super(evaluator, id);
         this.evaluator = evaluator;
 
@@ -96,4 +96,12 @@ public final class Ul extends Component implements Coreattrs, I18n {
     public String toString() {
         return super.toString() + ", title:" + title();
     }
+
+    /**
+     * @see Snapshottable
+     */
+    public Ul snapshot() {
+        return new Ul(AttributeSnapshot.of(evaluator, id(), Attribute.clazz, Attribute.style, Attribute.title,
+                Attribute.lang, Attribute.dir), id());
+    }
 }
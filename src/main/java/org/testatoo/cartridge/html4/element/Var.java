@@ -29,7 +29,7 @@ import static org.testatoo.cartridge.html4.element.HtmlElementType.Var;
  * @see <a href="http://www.w3.org/TR/html401/struct/text.html#edef-VAR"> var specification </a>
  */
 
-public final class Var extends Phrase implements Coreattrs, I18n {
+public final class Var extends Phrase implements Coreattrs, I18n, Snapshottable<Var> {
 
     private CoreAttributeSupport coreAttributeSupport;
     private I18nAttributeSupport i18nAttributeSupport;
@@ -41,7 +41,7 @@ public final class Var extends Phrase implements Coreattrs, I18n {
      * @param id        the id (unique) of the var element
      * @throws ComponentException if the given id does not correspond to a "var" element
      */
-    public Var(HtmlEvaluator evaluator, String id) {
+    public Var(HtmlEvaluator<?> evaluator, String id) {
         super(evaluator, id);
 
         coreAttributeSupport = new CoreAttributeSupport(evaluator);
@@ -85,5 +85,12 @@ public final class Var extends Phrase implements Coreattrs, I18n {
     public Direction direction() {
         return i18nAttributeSupport.direction(this);
     }
-}
 
+    /**
+     * @see Snapshottable
+     */
+    public Var snapshot() {
+        return new Var(AttributeSnapshot.of(evaluator, id(), Attribute.clazz, Attribute.style, Attribute.title,
+                Attribute.lang, Attribute.dir), id());
+    }
+}
@@ -0,0 +1,1339 @@
+/**
+ * Copyright (C) 2008 Ovea <dev@testatoo.org>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.testatoo.cartridge.html4.evaluator;
+
+import org.testatoo.cartridge.html4.AttributeCache;
+import org.testatoo.cartridge.html4.Batch;
+import org.testatoo.cartridge.html4.EntryMode;
+import org.testatoo.cartridge.html4.EvaluatorException;
+import org.testatoo.cartridge.html4.HtmlEvaluator;
+import org.testatoo.cartridge.html4.component.ListBox;
+import org.testatoo.cartridge.html4.element.*;
+import org.testatoo.cartridge.html4.element.Map;
+import org.testatoo.cartridge.html4.element.Object;
+import org.testatoo.core.*;
+import org.testatoo.core.component.*;
+import org.testatoo.core.component.Button;
+import org.testatoo.core.component.Link;
+import org.testatoo.core.component.datagrid.*;
+import org.testatoo.core.input.Click;
+import org.testatoo.core.input.Key;
+import org.testatoo.core.nature.*;
+
+import java.util.*;
+
+import static org.testatoo.cartridge.html4.By.$;
+import static org.testatoo.core.input.KeyModifier.*;
+
+/**
+ * This class is the base of the evaluators for html4 elements. The html4 logic is written once on top of the
+ * tQuery helper scripts : an evaluator for a UI Test engine only gives the way to evaluate scripts in the page
+ * and the few commands the engine provides natively.
+ *
+ * @author dev@testatoo.org
+ */
+public abstract class AbstractHtmlEvaluator<T> extends EvaluatorSkeleton<T> implements HtmlEvaluator<T> {
+
+    private final String name;
+    final PageAttributeCache attributeCache = new PageAttributeCache();
+    private volatile int selectionPageSize = 200;
+    private volatile EntryMode entryMode = EntryMode.KEYSTROKES;
+    private Component currentFocusedComponent;
+    private static final String PAGE_ID = "_PAGE_ID_";
+
+    /**
+     * Class constructor specifying the name of the evaluator
+     *
+     * @param name of the evaluator
+     */
+    protected AbstractHtmlEvaluator(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public String pageId() {
+        return PAGE_ID;
+    }
+
+    /**
+     * @see org.testatoo.core.Evaluator
+     */
+    @Override
+    public Boolean existComponent(String id) {
+        if (id.equals(PAGE_ID)) {
+            return true;
+        }
+        // Cannot use jQuery cause only present after page loaded (not the case when existComponent is a page)
+        return isElementPresent(id);
+    }
+
+    /**
+     * @see org.testatoo.core.Evaluator
+     */
+    @Override
+    public String text(TextSupport textSupport) {
+        Component component = (Component) textSupport;
+        String nodeName = nodename(component);
+        if (nodeName.equalsIgnoreCase("input")) {
+            return attribute(component.id(), Attribute.value);
+        }
+        return nodeTextContent(component);
+    }
+
+    /**
+     * @see org.testatoo.core.Evaluator
+     */
+    @Override
+    public String icon(IconSupport iconSupport) {
+        // the src of an image input, or of the first image of a button tag
+        return (String) call("icon", ((Component) iconSupport).id());
+    }
+
+    /**
+     * @see org.testatoo.core.Evaluator
+     */
+    @Override
+    public Boolean isVisible(Component component) {
+        return component instanceof AbstractWindow
+                || state(component).isVisible();
+    }
+
+    /**
+     * @see org.testatoo.core.Evaluator
+     */
+    @Override
+    public Boolean isEnabled(Component component) {
+        // A read-only field cannot be changed by the user : it is not enabled
+        ComponentState state = state(component);
+        return state.isEnabled() && !state.isReadOnly();
+    }
+
+    /**
+     * @see org.testatoo.core.Evaluator
+     */
+    @Override
+    public void check(Checkable checkable) {
+        if (!checkable.isChecked())
+            click((Component) checkable, Click.left);
+    }
+
+    /**
+     * @see org.testatoo.core.Evaluator
+     */
+    @Override
+    public Boolean isChecked(Checkable checkable) {
+        return state((Component) checkable).isChecked();
+    }
+
+    /**
+     * @see org.testatoo.core.Evaluator
+     */
+    @Override
+    public void unCheck(org.testatoo.core.component.CheckBox checkbox) {
+        if (checkbox.isChecked())
+            click(checkbox, Click.left);
+    }
+
+    /**
+     * @see org.testatoo.core.Evaluator
+     */
+    @Override
+    public String value(ValueSupport valueSupport) {
+        if (valueSupport instanceof AbstractTextField) {
+            return fieldValue(((Component) valueSupport).id());
+        }
+        if (valueSupport instanceof Cell) {
+            return nodeTextContent(((Component) valueSupport));
+        }
+
+        return attribute(((Component) valueSupport).id(), Attribute.value);
+    }
+
+    /**
+     * @see org.testatoo.core.Evaluator
+     */
+    @Override
+    public String source(org.testatoo.core.component.Image image) {
+        return attribute(image.id(), Attribute.src);
+    }
+
+    /**
+     * @see org.testatoo.core.Evaluator
+     */
+    @Override
+    public String label(LabelSupport labelSupport) {
+        // the label for the component, the label before it or its parent are looked up in turn in the page
+        return (String) call("label", ((Component) labelSupport).id());
+    }
+
+    /**
+     * @see org.testatoo.core.Evaluator
+     */
+    @Override
+    public Integer maxLength(AbstractTextField textfield) {
+        String maxLength = attribute(textfield.id(), Attribute.maxlength);
+        if (maxLength.equals(""))
+            return Integer.MAX_VALUE;
+        return Integer.valueOf(maxLength);
+    }
+
+    /**
+     * @see org.testatoo.core.Evaluator
+     */
+    @Override
+    public void reset(AbstractTextField textField) {
+        reset(textField, entryMode);
+    }
+
+    /**
+     * @see org.testatoo.cartridge.html4.HtmlEvaluator
+     */
+    @Override
+    public void reset(AbstractTextField textField, EntryMode mode) {
+        attributeCache.flush();
+        if (mode == EntryMode.VALUE) {
+            call("enter", textField.id(), "", false);
+        } else {
+            evaljQuery("$('#" + textField.id() + "').val('')");
+        }
+    }
+
+    /**
+     * @see org.testatoo.core.Evaluator
+     */
+    @Override
+    public void selectFilePath(String filePath, FileDialog fileDialog) {
+        throw new EvaluatorException("Not available for security constraints");
+    }
+
+    /**
+     * @see org.testatoo.core.Evaluator
+     */
+    @Override
+    public String selectedFilePath(FileDialog fileDialog) {
+        throw new EvaluatorException("Not available for security constraints");
+    }
+
+    /**
+     * @see org.testatoo.core.Evaluator
+     */
+    @Override
+    public void unselect(String value, ListModel listModel) {
+        select(listModel, false, value);
+    }
+
+    /**
+     * @see org.testatoo.core.Evaluator
+     */
+    @Override
+    public void unselectAll(ListModel listModel) {
+        attributeCache.flush();
+        call("unselectAll", findEmbeddedSelect(listModel).id());
+    }
+
+    /**
+     * @see org.testatoo.core.Evaluator
+     */
+    @Override
+    public void select(String value, ListModel listModel) {
+        select(listModel, true, value);
+    }
+
+    /**
+     * @see org.testatoo.cartridge.html4.HtmlEvaluator
+     */
+    @Override
+    public int selectAll(ListModel listModel, String... values) {
+        return select(listModel, true, values);
+    }
+
+    /**
+     * @see org.testatoo.core.Evaluator
+     */
+    @Override
+    public Boolean contains(Container container, Component... component) {
+        return missing(container, component).isEmpty();
+    }
+
+    /**
+     * @see org.testatoo.cartridge.html4.HtmlEvaluator
+     */
+    @Override
+    public List<Component> missing(Container container, Component... components) {
+        if (components.length == 0) {
+            return Collections.emptyList();
+        }
+        // contained(containerId, id, id...) : all the components are looked up in a single call
+        java.lang.Object[] arguments = new java.lang.Object[components.length + 1];
+        arguments[0] = ((Component) container).id();
+        for (int i = 0; i < components.length; i++) {
+            arguments[i + 1] = components[i].id();
+        }
+        List<?> contained = (List<?>) call("contained", arguments);
+        List<Component> missing = new ArrayList<Component>();
+        for (Component component : components) {
+            if (!contained.contains(component.id())) {
+                missing.add(component);
+            }
+        }
+        return missing;
+    }
+
+    /**
+     * @see org.testatoo.core.Evaluator
+     */
+    @Override
+    public String label(Option option) {
+        return attribute(option.id(), Attribute.label);
+    }
+
+    /**
+     * @see org.testatoo.core.Evaluator
+     */
+    @Override
+    public String label(OptionGroup optionGroup) {
+        return attribute(optionGroup.id(), Attribute.label);
+    }
+
+    /**
+     * @see org.testatoo.core.Evaluator
+     */
+    @Override
+    public Boolean selected(Option option) {
+        return state(option).isSelected();
+    }
+
+    /**
+     * @see org.testatoo.core.Evaluator
+     */
+    @Override
+    public Boolean hasFocus(Component component) {
+        return currentFocusedComponent != null && currentFocusedComponent.equals(component);
+    }
+
+    /**
+     * @see org.testatoo.core.Evaluator
+     */
+    @Override
+    public String title(TitleSupport titleSupport) {
+        if (titleSupport instanceof Page) {
+            return pageTitle();
+        }
+
+        if (titleSupport instanceof FileDialog) {
+            return "";
+        }
+
+        if (titleSupport instanceof Column) {
+            return nodeTextContent((Component) titleSupport);
+        }
+        return attribute(((Component) titleSupport).id(), Attribute.title);
+    }
+
+    /**
+     * @see org.testatoo.core.Evaluator
+     */
+    @Override
+    public String message(AlertBox alertbox) {
+        throw new ComponentException("Alertbox is not implemented in HTML4 cartridge");
+    }
+
+    /**
+     * @see org.testatoo.core.Evaluator
+     */
+    @Override
+    public Selection<Column> columns(DataGrid datagrid) {
+        return ListSelection.from(new PagedList<Column>(new ElementPager<Column>(datagrid.id(), "thead tr:last th") {
+            @Override
+            Column element(String id) {
+                return new Column(AbstractHtmlEvaluator.this, id);
+            }
+        }, selectionPageSize));
+    }
+
+    /**
+     * @see org.testatoo.core.Evaluator
+     */
+    @Override
+    public Selection<Row> rows(DataGrid datagrid) {
+        return ListSelection.from(new PagedList<Row>(new ElementPager<Row>(datagrid.id(), "tbody tr") {
+            @Override
+            Row element(String id) {
+                return new Row(AbstractHtmlEvaluator.this, id);
+            }
+        }, selectionPageSize));
+    }
+
+    @Override
+    public Selection<Cell> cells(CellContainer cellContainer) {
+        String id = ((Component) cellContainer).id();
+
+        if (cellContainer instanceof Column) {
+            TableModel model = tableModel(id);
+            int columnNum = model.columnIndex(id);
+            if (columnNum < 0) {
+                throw new EvaluatorException("Unable to find the Column");
+            }
+            List<Cell> cells = new ArrayList<Cell>();
+            for (TableModel.Entry entry : model.column(columnNum)) {
+                cells.add(new Cell(this, entry.id()));
+            }
+            return ListSelection.from(cells);
+        }
+
+        if (cellContainer instanceof Row) {
+            return ListSelection.from(new PagedList<Cell>(new ElementPager<Cell>(id, "td") {
+                @Override
+                Cell element(String id) {
+                    return new Cell(AbstractHtmlEvaluator.this, id);
+                }
+            }, selectionPageSize));
+        }
+        return ListSelection.from(new ArrayList<Cell>());
+    }
+
+    /**
+     * @see org.testatoo.cartridge.html4.HtmlEvaluator
+     */
+    @Override
+    public TableModel tableModel(String id) {
+        List<?> model = (List<?>) call("table", id);
+        List<TableModel.Entry> headers = entries((List<?>) model.get(0), HtmlElementType.Th);
+        List<TableModel.RowEntry> rows = new ArrayList<TableModel.RowEntry>();
+        for (java.lang.Object value : (List<?>) model.get(1)) {
+            List<?> row = (List<?>) value;
+            rows.add(new TableModel.RowEntry((String) row.get(0), entries((List<?>) row.get(1), HtmlElementType.Td)));
+            attributeCache.type((String) row.get(0), HtmlElementType.Tr);
+        }
+        return new TableModel(headers, rows);
+    }
+
+    /**
+     * @see org.testatoo.core.Evaluator
+     */
+    @Override
+    public ComponentType componentType(String id) {
+        return ComponentType.valueOf((String) call("componentType", id));
+    }
+
+    /**
+     * @see org.testatoo.core.Evaluator
+     */
+    @Override
+    public void click(Component component, Click which) {
+        attributeCache.flush();
+        try {
+            setFocus(component);
+            if (which == Click.right) {
+                evaljQuery("$('#" + component.id() + "').simulate('rightclick')");
+            } else {
+                // If component is link we need to open the expected target
+                // Not sure but some Browser seems have a security check to not open page on js event
+                if (component instanceof Link && !((Link) component).reference().equals("#")) {
+                    nativeClick(component.id());
+                    pageChanged();
+                } else {
+                    evaljQuery("$('#" + component.id() + "').simulate('click')");
+                }
+            }
+        } catch (Exception e) {
+            // Continue... if the click change page
+        }
+    }
+
+    /**
+     * @see org.testatoo.core.Evaluator
+     */
+    @Override
+    public void doubleClick(Component component) {
+        attributeCache.flush();
+        evaljQuery("$('#" + component.id() + "').simulate('dblclick')");
+        setFocus(component);
+    }
+
+    /**
+     * @see org.testatoo.core.Evaluator
+     */
+    @Override
+    public void mouseOver(Component component) {
+        attributeCache.flush();
+        evaljQuery("$('#" + component.id() + "').simulate('mouseover')");
+    }
+
+    /**
+     * @see org.testatoo.core.Evaluator
+     */
+    @Override
+    public void mouseOut(Component component) {
+        attributeCache.flush();
+        evaljQuery("$('#" + component.id() + "').simulate('mouseout')");
+    }
+
+    /**
+     * @see org.testatoo.core.Evaluator
+     */
+    @Override
+    public void dragAndDrop(Component from, Component to) {
+        attributeCache.flush();
+        evaljQuery("$('#" + from.id() + "').simulate('dragTo', {'target': $('#" + to.id() + "')})");
+    }
+
+    /**
+     * @see org.testatoo.core.Evaluator
+     */
+    @Override
+    public void focusOn(Component component) {
+        click(component, Click.left);
+    }
+
+    /**
+     * @see org.testatoo.core.Evaluator
+     */
+    @Override
+    public void type(String text) {
+        type(text, entryMode);
+    }
+
+    /**
+     * @see org.testatoo.cartridge.html4.HtmlEvaluator
+     */
+    @Override
+    public void type(String text, EntryMode mode) {
+        attributeCache.flush();
+        if (mode == EntryMode.VALUE && currentFocusedComponent instanceof AbstractTextField) {
+            call("enter", currentFocusedComponent.id(), text, true);
+            return;
+        }
+        // The whole text is typed in a single call : the key events of each character are fired in the browser
+        call("type", currentFocusedComponent == null ? null : currentFocusedComponent.id(), text, modifiers(), keyCodes(text));
+    }
+
+    /**
+     * @see org.testatoo.core.Evaluator
+     */
+    @Override
+    public void press(Key key) {
+        attributeCache.flush();
+        typeKey(key.code());
+    }
+
+    /**
+     * @see org.testatoo.core.Evaluator
+     */
+    @Override
+    public void close(AbstractWindow window) {
+        throw new ComponentException("Close window is not implemented in HTML4 cartridge");
+    }
+
+    /**
+     * @see org.testatoo.core.Evaluator
+     */
+    @Override
+    public String reference(Link link) {
+        String href = attribute(link.id(), Attribute.href);
+        if (href.equals(""))
+            return "#";
+        return href;
+    }
+
+    /**
+     * @see org.testatoo.cartridge.html4.HtmlEvaluator
+     */
+    @Override
+    public void open(String url) {
+        attributeCache.flush();
+        load(url);
+        currentFocusedComponent = null;
+        release();
+    }
+
+    /* Attributes don't work with jQuery prop method */
+    final private static Set<Attribute> specialsAttributes = new HashSet<Attribute>() {{
+        add(Attribute.style);
+        add(Attribute.action);
+        add(Attribute.href);
+        add(Attribute.src);
+        add(Attribute.accept);
+        add(Attribute.classid);
+        add(Attribute.longdesc);
+        add(Attribute.cellhalign);
+        add(Attribute.cellvalign);
+    }};
+
+    /**
+     * @see org.testatoo.cartridge.html4.HtmlEvaluator
+     */
+    @Override
+    public String attribute(String id, Attribute attribute) {
+        String cached = attributeCache.get(id, attribute);
+        if (cached != null)
+            return cached;
+
+        java.lang.Object attributeValue = call(accessor(attribute), id, attribute.toString());
+        String value = attributeValue == null ? "" : String.valueOf(attributeValue);
+        attributeCache.put(id, attribute, value);
+        return value;
+    }
+
+    /**
+     * @see org.testatoo.cartridge.html4.HtmlEvaluator
+     */
+    @Override
+    public java.util.Map<Attribute, String> attributes(String id, Attribute... attributes) {
+        java.util.Map<Attribute, String> result = new LinkedHashMap<Attribute, String>();
+        List<Attribute> missing = new ArrayList<Attribute>();
+        for (Attribute attribute : attributes) {
+            String cached = attributeCache.get(id, attribute);
+            result.put(attribute, cached);
+            if (cached == null) {
+                missing.add(attribute);
+            }
+        }
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        java.lang.Object[] arguments = new java.lang.Object[missing.size() * 2 + 1];
+        arguments[0] = id;
+        for (int i = 0; i < missing.size(); i++) {
+            arguments[i * 2 + 1] = accessor(missing.get(i));
+            arguments[i * 2 + 2] = missing.get(i).toString();
+        }
+        List<?> values = (List<?>) call("attributes", arguments);
+        for (int i = 0; i < missing.size(); i++) {
+            java.lang.Object attributeValue = values.get(i);
+            String value = attributeValue == null ? "" : String.valueOf(attributeValue);
+            attributeCache.put(id, missing.get(i), value);
+            result.put(missing.get(i), value);
+        }
+        return result;
+    }
+
+    /**
+     * @see org.testatoo.cartridge.html4.HtmlEvaluator
+     */
+    @Override
+    public java.util.Map<Attribute, String> attributes(String id) {
+        return attributes(id, Attribute.values());
+    }
+
+    /**
+     * @see org.testatoo.cartridge.html4.HtmlEvaluator
+     */
+    @Override
+    public Boolean exist(String id, Attribute attribute) {
+        return !evaljQuery("$('#" + id + "[" + attribute + "]')").isEmpty();
+    }
+
+    /**
+     * @see org.testatoo.cartridge.html4.HtmlEvaluator
+     */
+    @Override
+    public Selection<OptionGroup> optionGroups(Select select) {
+        List<OptionGroup> optionGroups = new ArrayList<OptionGroup>();
+        for (String id : optionModel(select.id()).groupIds()) {
+            optionGroups.add(new OptionGroup(this, id));
+        }
+        return ListSelection.from(optionGroups);
+    }
+
+    /**
+     * @see org.testatoo.cartridge.html4.HtmlEvaluator
+     */
+    @Override
+    public Selection<Option> options(Select select) {
+        return options(optionModel(select.id()).options());
+    }
+
+    /**
+     * @see org.testatoo.cartridge.html4.HtmlEvaluator
+     */
+    @Override
+    public Selection<Option> selectedOptions(Select select) {
+        return options(optionModel(select.id()).selectedOptions());
+    }
+
+    /**
+     * @see org.testatoo.cartridge.html4.HtmlEvaluator
+     */
+    @Override
+    public Selection<Option> options(OptionGroup optionGroup) {
+        return options(optionModel(optionGroup.id()).options());
+    }
+
+    /**
+     * @see org.testatoo.cartridge.html4.HtmlEvaluator
+     */
+    @Override
+    public OptionModel optionModel(String id) {
+        List<?> model = (List<?>) call("options", id);
+        List<OptionModel.Entry> options = new ArrayList<OptionModel.Entry>();
+        for (java.lang.Object value : (List<?>) model.get(0)) {
+            List<?> option = (List<?>) value;
+            options.add(new OptionModel.Entry((String) option.get(0), (String) option.get(1), (String) option.get(2),
+                    (String) option.get(3), (Boolean) option.get(4), (Boolean) option.get(5), (String) option.get(6)));
+            // The options are built without reading their type again
+            attributeCache.type((String) option.get(0), HtmlElementType.Option);
+        }
+        List<String> groupIds = new ArrayList<String>();
+        for (java.lang.Object groupId : (List<?>) model.get(1)) {
+            groupIds.add((String) groupId);
+            attributeCache.type((String) groupId, HtmlElementType.OptionGroup);
+        }
+        return new OptionModel(options, groupIds);
+    }
+
+    /**
+     * @see org.testatoo.cartridge.html4.HtmlEvaluator
+     */
+    @Override
+    public Selection<Param> params(Object object) {
+        List<Param> params = new ArrayList<Param>();
+        for (String id : $("#" + object.id() + " param").find(this)) {
+            params.add(new Param(this, id));
+        }
+        return ListSelection.from(params);
+    }
+
+    /**
+     * @see org.testatoo.cartridge.html4.HtmlEvaluator
+     */
+    @Override
+    public Selection<Area> areas(Map map) {
+        List<Area> areas = new ArrayList<Area>();
+        for (String id : $("#" + map.id() + " area").find(this)) {
+            areas.add(new Area(this, id));
+        }
+        return ListSelection.from(areas);
+    }
+
+    /**
+     * @see org.testatoo.cartridge.html4.HtmlEvaluator
+     */
+    @Override
+    public Selection<Col> cols(Colgroup colgroup) {
+        List<Col> cols = new ArrayList<Col>();
+        for (String id : $("#" + colgroup.id() + " col").find(this)) {
+            cols.add(new Col(this, id));
+        }
+        return ListSelection.from(cols);
+    }
+
+    /**
+     * @see org.testatoo.cartridge.html4.HtmlEvaluator
+     */
+    @Override
+    public Caption caption(Table table) {
+        return new Caption(this, $("#" + table.id() + " caption").id(this));
+    }
+
+    /**
+     * @see org.testatoo.cartridge.html4.HtmlEvaluator
+     */
+    @Override
+    public String content(Component component) {
+        return nodeTextContent(component);
+    }
+
+    /**
+     * @see org.testatoo.cartridge.html4.HtmlEvaluator
+     */
+    @Override
+    public String nodeTextContent(Component component) {
+        return nodeText(component.id());
+    }
+
+    /**
+     * @see org.testatoo.cartridge.html4.HtmlEvaluator
+     */
+    @Override
+    public THead thead(Table table) {
+        return new THead(this, $("#" + table.id() + " thead").id(this));
+    }
+
+    /**
+     * @see org.testatoo.cartridge.html4.HtmlEvaluator
+     */
+    @Override
+    public TBody tbody(Table table) {
+        return new TBody(this, $("#" + table.id() + " tbody").id(this));
+    }
+
+    /**
+     * @see org.testatoo.cartridge.html4.HtmlEvaluator
+     */
+    @Override
+    public TFoot tfoot(Table table) {
+        return new TFoot(this, $("#" + table.id() + " tfoot").id(this));
+    }
+
+    /**
+     * @see org.testatoo.cartridge.html4.HtmlEvaluator
+     */
+    @Override
+    public Selection<Tr> tr(Component component) {
+        return ListSelection.from(new PagedList<Tr>(new ElementPager<Tr>(component.id(), "tr") {
+            @Override
+            Tr element(String id) {
+                return new Tr(AbstractHtmlEvaluator.this, id);
+            }
+        }, selectionPageSize));
+    }
+
+    /**
+     * @see org.testatoo.cartridge.html4.HtmlEvaluator
+     */
+    @Override
+    public Selection<Td> td(Tr tr) {
+        return ListSelection.from(new PagedList<Td>(new ElementPager<Td>(tr.id(), "td") {
+            @Override
+            Td element(String id) {
+                return new Td(AbstractHtmlEvaluator.this, id);
+            }
+        }, selectionPageSize));
+    }
+
+    /**
+     * @see org.testatoo.cartridge.html4.HtmlEvaluator
+     */
+    @Override
+    public Selection<Th> th(Tr tr) {
+        return ListSelection.from(new PagedList<Th>(new ElementPager<Th>(tr.id(), "th") {
+            @Override
+            Th element(String id) {
+                return new Th(AbstractHtmlEvaluator.this, id);
+            }
+        }, selectionPageSize));
+    }
+
+    /**
+     * @see org.testatoo.cartridge.html4.HtmlEvaluator
+     */
+    @Override
+    public Selection<Col> cols(Table table) {
+        List<Col> cols = new ArrayList<Col>();
+        for (String id : $("#" + table.id() + " col").find(this)) {
+            cols.add(new Col(this, id));
+        }
+        return ListSelection.from(cols);
+    }
+
+    /**
+     * @see org.testatoo.cartridge.html4.HtmlEvaluator
+     */
+    @Override
+    public Selection<Colgroup> colgroups(Table table) {
+        List<Colgroup> colgroups = new ArrayList<Colgroup>();
+        for (String id : $("#" + table.id() + " colgroup").find(this)) {
+            colgroups.add(new Colgroup(this, id));
+        }
+        return ListSelection.from(colgroups);
+    }
+
+    /**
+     * @see org.testatoo.cartridge.html4.HtmlEvaluator
+     */
+    @Override
+    public String content(Option option) {
+        return nodeTextContent(option);
+    }
+
+    /**
+     * @see org.testatoo.cartridge.html4.HtmlEvaluator
+     */
+    @Override
+    public void submit(Form form) {
+        attributeCache.flush();
+        evaljQuery("$('#" + form.id() + "').submit()");
+        pageChanged();
+    }
+
+    /**
+     * @see org.testatoo.cartridge.html4.HtmlEvaluator
+     */
+    @Override
+    public void reset(Form form) {
+        click(getResetButton(form), Click.left);
+    }
+
+    /**
+     * @see org.testatoo.cartridge.html4.HtmlEvaluator
+     */
+    @Override
+    public void fill(Form form, java.util.Map<String, String> values) {
+        attributeCache.flush();
+        // fill(formId, key, value, key, value...)
+        List<java.lang.Object> arguments = new ArrayList<java.lang.Object>(values.size() * 2 + 1);
+        arguments.add(form.id());
+        for (java.util.Map.Entry<String, String> value : values.entrySet()) {
+            arguments.add(value.getKey());
+            arguments.add(value.getValue() == null ? "" : value.getValue());
+        }
+        call("fill", arguments.toArray());
+    }
+
+    /**
+     * @see org.testatoo.cartridge.html4.HtmlEvaluator
+     */
+    @Override
+    public FormState formState(Form form) {
+        List<FormState.Entry> controls = new ArrayList<FormState.Entry>();
+        for (java.lang.Object value : (List<?>) call("formState", form.id())) {
+            List<?> control = (List<?>) value;
+            List<String> selectedOptions = new ArrayList<String>();
+            for (java.lang.Object text : (List<?>) control.get(5)) {
+                selectedOptions.add((String) text);
+            }
+            controls.add(new FormState.Entry((String) control.get(0), (String) control.get(1), (String) control.get(2),
+                    (String) control.get(3), (Boolean) control.get(4), selectedOptions));
+        }
+        return new FormState(controls);
+    }
+
+    /**
+     * @see org.testatoo.cartridge.html4.HtmlEvaluator
+     */
+    @Override
+    public Boolean isReadOnly(Field field) {
+        ComponentState state = state(field);
+        return !state.isEnabled() || state.isReadOnly();
+    }
+
+    /**
+     * @see org.testatoo.cartridge.html4.HtmlEvaluator
+     */
+    @Override
+    public ComponentState state(Component component) {
+        Integer bits = attributeCache.state(component.id());
+        if (bits == null) {
+            bits = ((Number) call("state", component.id())).intValue();
+            attributeCache.state(component.id(), bits);
+        }
+        return new ComponentState(bits);
+    }
+
+    /**
+     * @see org.testatoo.cartridge.html4.HtmlEvaluator
+     */
+    @Override
+    public String[] elementsId(String expression) {
+        String query = query(expression);
+
+        // The html types are read with the ids, the elements without id getting one in the page : the elements built
+        // from these ids do not read them again
+        List<?> elements = (List<?>) value("$.ops.elements(" + query + ")");
+        if (elements.isEmpty()) {
+            throw new EvaluatorException("Cannot find component defined by the jquery expression : " + query);
+        }
+
+        String[] resultId = new String[elements.size()];
+        for (int i = 0; i < resultId.length; i++) {
+            List<?> element = (List<?>) elements.get(i);
+            String id = (String) element.get(0);
+            resultId[i] = id;
+            attributeCache.type(id, HtmlElementType.valueOfIgnoreCase((String) element.get(1)));
+        }
+        return resultId;
+    }
+
+    /**
+     * @see org.testatoo.cartridge.html4.HtmlEvaluator
+     */
+    @Override
+    public String[] waitForElementsId(String expression, long timeout) {
+        String query = query(expression);
+        long end = System.currentTimeMillis() + timeout;
+        while (true) {
+            try {
+                return elementsId(expression);
+            } catch (EvaluatorException e) {
+                // Not in the page yet
+            }
+            long remaining = end - System.currentTimeMillis();
+            if (remaining <= 0) {
+                return new String[0];
+            }
+            Boolean matched = waitForMatch(query, remaining);
+            if (matched == null) {
+                return null;
+            }
+            if (!matched) {
+                return new String[0];
+            }
+        }
+    }
+
+    /**
+     * @see org.testatoo.cartridge.html4.HtmlEvaluator
+     */
+    @Override
+    public HtmlElementType htmlElementType(String id) {
+        HtmlElementType type = attributeCache.type(id);
+        if (type == null) {
+            type = HtmlElementType.valueOfIgnoreCase((String) call("htmlType", id));
+            attributeCache.type(id, type);
+        }
+        return type;
+    }
+
+    /**
+     * @see org.testatoo.cartridge.html4.HtmlEvaluator
+     */
+    @Override
+    public String nodename(Component component) {
+        return (String) call("prop", component.id(), "nodeName");
+    }
+
+    /**
+     * @see org.testatoo.cartridge.html4.HtmlEvaluator
+     */
+    @Override
+    public Batch batch() {
+        return new ScriptBatch(this);
+    }
+
+    /**
+     * @see org.testatoo.cartridge.html4.HtmlEvaluator
+     */
+    @Override
+    public void beginStateSnapshot() {
+        attributeCache.beginSnapshot();
+    }
+
+    /**
+     * @see org.testatoo.cartridge.html4.HtmlEvaluator
+     */
+    @Override
+    public void endStateSnapshot() {
+        attributeCache.endSnapshot();
+    }
+
+    /**
+     * @see org.testatoo.cartridge.html4.HtmlEvaluator
+     */
+    @Override
+    public AttributeCache attributeCache() {
+        return attributeCache;
+    }
+
+    /**
+     * @see org.testatoo.cartridge.html4.HtmlEvaluator
+     */
+    @Override
+    public void selectionPageSize(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("The page size must be positive : " + size);
+        }
+        selectionPageSize = size;
+    }
+
+    /**
+     * @see org.testatoo.cartridge.html4.HtmlEvaluator
+     */
+    @Override
+    public void entryMode(EntryMode mode) {
+        if (mode == null) {
+            throw new IllegalArgumentException("The entry mode cannot be null");
+        }
+        entryMode = mode;
+    }
+
+    @Override
+    public String evaluate(String expression) {
+        // The expression may change the page
+        attributeCache.flush();
+        return evaljQuery(expression);
+    }
+
+    // -------------- Private ----------------------
+    private Selection<Option> options(List<OptionModel.Entry> entries) {
+        List<Option> options = new ArrayList<Option>();
+        for (OptionModel.Entry entry : entries) {
+            options.add(new Option(this, entry.id()));
+        }
+        return ListSelection.from(options);
+    }
+
+    private void setFocus(Component component) {
+        if (component instanceof Link || component instanceof Area || component instanceof Button
+                || component instanceof Object || component instanceof ListModel || component instanceof Field) {
+            evaljQuery("$('#" + component.id() + "').focus()");
+            currentFocusedComponent = component;
+        }
+    }
+
+    private void typeKey(int keyCode) {
+        String keyModifier = keyModifier();
+        evaljQuery("($.browser.webkit) ? $(window.document).simulate('type', {charCode: " + keyCode + keyModifier + "}) : $('body').simulate('type', {keyCode: " + keyCode + keyModifier + "})");
+    }
+
+    private String keyModifier() {
+        if (!pressedKeyModifier.isEmpty()) {
+            List<String> options = new ArrayList<String>();
+            if (pressedKeyModifier.contains(CONTROL)) {
+                options.add("ctrlKey : true");
+            }
+            if (pressedKeyModifier.contains(SHIFT)) {
+                options.add("shiftKey : true");
+            }
+            if (pressedKeyModifier.contains(ALT)) {
+                options.add("altKey : true");
+            }
+
+            String result = "";
+            for (String option : options) {
+                result = result + ", " + option;
+            }
+            return result;
+        } else {
+            return "";
+        }
+    }
+
+    private int modifiers() {
+        return (pressedKeyModifier.contains(CONTROL) ? 1 : 0)
+                | (pressedKeyModifier.contains(SHIFT) ? 2 : 0)
+                | (pressedKeyModifier.contains(ALT) ? 4 : 0);
+    }
+
+    /**
+     * The key codes of the characters of the text given by the keyboard layout, one per code point : 0 for the
+     * characters outside of the ASCII range, which are typed with their own code
+     */
+    private String keyCodes(String text) {
+        StringBuilder codes = new StringBuilder();
+        for (int i = 0; i < text.length(); i += Character.charCount(text.codePointAt(i))) {
+            if (i > 0) {
+                codes.append(',');
+            }
+            char c = text.charAt(i);
+            codes.append(c < 128 ? keyboardLayout.convert(c) : 0);
+        }
+        return codes.toString();
+    }
+
+    private Button getResetButton(Form form) {
+        return new Button(this, $("#" + form.id() + " :reset").id(this));
+    }
+
+    private List<TableModel.Entry> entries(List<?> values, HtmlElementType type) {
+        List<TableModel.Entry> entries = new ArrayList<TableModel.Entry>(values.size());
+        for (java.lang.Object value : values) {
+            List<?> entry = (List<?>) value;
+            String id = (String) entry.get(0);
+            entries.add(new TableModel.Entry(id, (String) entry.get(1)));
+            // The headers and the cells are built without reading their type again
+            attributeCache.type(id, type);
+        }
+        return entries;
+    }
+
+    private static String query(String expression) {
+        if (expression.startsWith("jquery:")) {
+            return expression.substring(7);
+        }
+        return "$('#" + expression.replace(".", "\\\\.") + "')";
+    }
+
+    private int select(ListModel listModel, boolean selected, String... values) {
+        attributeCache.flush();
+        java.lang.Object[] arguments = new java.lang.Object[values.length + 2];
+        arguments[0] = findEmbeddedSelect(listModel).id();
+        arguments[1] = selected;
+        System.arraycopy(values, 0, arguments, 2, values.length);
+        return ((Number) call("select", arguments)).intValue();
+    }
+
+    private Select findEmbeddedSelect(ListModel listModel) {
+        try {
+            if (listModel instanceof Select) {
+                return (Select) listModel;
+            } else {
+                ListBox listBox = (ListBox) listModel;
+                java.lang.reflect.Field fields[] = listBox.getClass().getDeclaredFields();
+                for (java.lang.reflect.Field field : fields) {
+                    field.setAccessible(true);
+                    if (field.getName().equals("select")) {
+                        return (Select) field.get(listBox);
+                    }
+                }
+            }
+        } catch (Exception e) {
+            // Nop
+        }
+        throw new EvaluatorException("Unable to identify the type of ListModel");
+    }
+
+    static String accessor(Attribute attribute) {
+        return specialsAttributes.contains(attribute) ? "attr" : "prop";
+    }
+
+    /**
+     * To call one of the named operations registered by tquery-util.js in tQuery.ops
+     *
+     * @param operation the name of the operation
+     * @param arguments the arguments of the operation : strings, numbers or booleans
+     * @return the result of the operation : a String, Boolean, Number, List, Map or null
+     */
+    protected java.lang.Object call(String operation, java.lang.Object... arguments) {
+        return value(invocation(operation, arguments));
+    }
+
+    /**
+     * To get the value of a tQuery expression. By default the value is encoded in JSON in the page and decoded here.
+     *
+     * @param expression the tQuery expression
+     * @return the value of the expression : a String, Boolean, Number, List, Map or null
+     */
+    protected java.lang.Object value(String expression) {
+        return new JsonReader(evaljQuery("$.toJSON(" + expression + ")")).nextValue();
+    }
+
+    static String invocation(String operation, java.lang.Object... arguments) {
+        StringBuilder invocation = new StringBuilder("$.ops.").append(operation).append('(');
+        for (int i = 0; i < arguments.length; i++) {
+            if (i > 0) {
+                invocation.append(',');
+            }
+            invocation.append(arguments[i] instanceof String ? literal((String) arguments[i]) : String.valueOf(arguments[i]));
+        }
+        return invocation.append(')').toString();
+    }
+
+    protected static String literal(String value) {
+        StringBuilder literal = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                literal.append('\\').append(c);
+            } else if (c < ' ' || c == '\u2028' || c == '\u2029') {
+                literal.append(String.format("\\u%04x", (int) c));
+            } else {
+                literal.append(c);
+            }
+        }
+        return literal.append('"').toString();
+    }
+
+    // -------------- Engine ----------------------
+
+    /**
+     * To evaluate a tQuery expression in the page under test, the helper scripts being injected when missing
+     *
+     * @param expression the tQuery expression
+     * @return the string value of the expression
+     */
+    protected abstract String evaljQuery(String expression);
+
+    /**
+     * To forget the state of the current page when a navigation has been triggered
+     */
+    protected void pageChanged() {
+        attributeCache.invalidate();
+    }
+
+    /**
+     * To give the generation token of the page under test read with an evaluation : the cached attributes
+     * of another page are dropped
+     *
+     * @param token the generation token
+     */
+    protected final void pageGeneration(String token) {
+        attributeCache.generation(token);
+    }
+
+    /**
+     * To open a page and inject the helper scripts in it
+     *
+     * @param url the url of the page
+     */
+    protected abstract void load(String url);
+
+    /**
+     * To know if an element is in the page : the helper scripts may not be injected yet
+     *
+     * @param id the id of the element
+     * @return true if the element is in the page
+     */
+    protected abstract boolean isElementPresent(String id);
+
+    protected abstract String fieldValue(String id);
+
+    protected abstract String pageTitle();
+
+    /**
+     * To read the text of an element in the page
+     *
+     * @param id the id of the element
+     * @return the visible text of the element
+     */
+    protected abstract String nodeText(String id);
+
+    /**
+     * To click on an element with the native click of the UI Test engine, so that the browser follows links
+     *
+     * @param id the id of the element
+     */
+    protected abstract void nativeClick(String id);
+
+    /**
+     * To wait in the browser until a tQuery expression matches elements. The wait must also end when the helper
+     * scripts are missing or cannot run the expression : the elements are then looked up again after an injection.
+     * By default the UI Test engine cannot wait in the browser.
+     *
+     * @param query   the tQuery expression
+     * @param timeout the maximum time to wait, in milliseconds
+     * @return true when the wait has ended before the timeout, false on timeout, null if the engine cannot wait
+     */
+    protected Boolean waitForMatch(String query, long timeout) {
+        return null;
+    }
+
+    /**
+     * To read the pages of the elements matching a selector in a container with the range operation : the html
+     * types of the elements are kept so that they are not read again
+     */
+    private abstract class ElementPager<E> implements PagedList.Pager<E> {
+
+        private final String containerId;
+        private final String selector;
+
+        ElementPager(String containerId, String selector) {
+            this.containerId = containerId;
+            this.selector = selector;
+        }
+
+        @Override
+        public int load(int from, int count, List<E> page) {
+            List<?> range = (List<?>) call("range", containerId, selector, from, count);
+            for (java.lang.Object value : (List<?>) range.get(1)) {
+                List<?> element = (List<?>) value;
+                String id = (String) element.get(0);
+                attributeCache.type(id, HtmlElementType.valueOfIgnoreCase((String) element.get(1)));
+                page.add(element(id));
+            }
+            return ((Number) range.get(0)).intValue();
+        }
+
+        abstract E element(String id);
+    }
+}
@@ -0,0 +1,311 @@
+/**
+ * Copyright (C) 2008 Ovea <dev@testatoo.org>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.testatoo.cartridge.html4.evaluator;
+
+import org.testatoo.cartridge.html4.EvaluatorException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class is a streaming decoder of the JSON results produced in the browser by tQuery.toJSON.
+ * Values are read in place from the result string : no intermediate string is built except the decoded values.
+ * A malformed result, such as a misplaced comma or content after the value, is reported with an EvaluatorException.
+ *
+ * @author dev@testatoo.org
+ */
+final class JsonReader {
+
+    // state of each open array or object : no element read yet, an element read, a separator (or a name) read
+    private static final char EMPTY = 'e';
+    private static final char VALUE = 'v';
+    private static final char SEPARATOR = 's';
+
+    private final String json;
+    private final StringBuilder scopes = new StringBuilder();
+    private int position;
+
+    JsonReader(String json) {
+        this.json = json;
+    }
+
+    void beginArray() {
+        begin('[');
+    }
+
+    void endArray() {
+        end(']');
+    }
+
+    void beginObject() {
+        begin('{');
+    }
+
+    void endObject() {
+        end('}');
+    }
+
+    /**
+     * To know if the current array or object has another element : the separator before the element is read
+     *
+     * @return true if there is another element to read
+     */
+    boolean hasNext() {
+        char scope = scope();
+        if (scope == SEPARATOR) {
+            return true;
+        }
+        char c = peek();
+        if (c == ']' || c == '}') {
+            return false;
+        }
+        if (scope == VALUE) {
+            separator();
+        }
+        return true;
+    }
+
+    String nextName() {
+        String name = nextString();
+        consume(':');
+        scopes.setCharAt(scopes.length() - 1, SEPARATOR);
+        return name;
+    }
+
+    /**
+     * To read a string
+     *
+     * @return the string, or null if the value is null
+     */
+    String nextString() {
+        beforeValue();
+        String value = readString();
+        afterValue();
+        return value;
+    }
+
+    boolean nextBoolean() {
+        beforeValue();
+        boolean value = readBoolean();
+        afterValue();
+        return value;
+    }
+
+    Number nextNumber() {
+        beforeValue();
+        Number value = readNumber();
+        afterValue();
+        return value;
+    }
+
+    /**
+     * To read any value : strings, numbers, booleans, null, lists and maps
+     *
+     * @return the value read
+     */
+    Object nextValue() {
+        beforeValue();
+        char c = peek();
+        switch (c) {
+            case '"':
+                return after(readString());
+            case 'n':
+                literal("null");
+                return after(null);
+            case 't':
+            case 'f':
+                return after(readBoolean());
+            case '[':
+                List<Object> list = new ArrayList<Object>();
+                beginArray();
+                while (hasNext()) {
+                    list.add(nextValue());
+                }
+                endArray();
+                return list;
+            case '{':
+                Map<String, Object> map = new LinkedHashMap<String, Object>();
+                beginObject();
+                while (hasNext()) {
+                    String name = nextName();
+                    map.put(name, nextValue());
+                }
+                endObject();
+                return map;
+            default:
+                return after(readNumber());
+        }
+    }
+
+    private String readString() {
+        if (peek() == 'n') {
+            literal("null");
+            return null;
+        }
+        consume('"');
+        StringBuilder builder = null;
+        int start = position;
+        while (true) {
+            if (position == json.length()) {
+                throw error("\"");
+            }
+            char c = json.charAt(position++);
+            if (c == '"') {
+                if (builder == null) {
+                    return json.substring(start, position - 1);
+                }
+                return builder.append(json, start, position - 1).toString();
+            }
+            if (c == '\\') {
+                if (builder == null) {
+                    builder = new StringBuilder();
+                }
+                builder.append(json, start, position - 1);
+                builder.append(unescape(json.charAt(position++)));
+                start = position;
+            }
+        }
+    }
+
+    private boolean readBoolean() {
+        if (peek() == 't') {
+            literal("true");
+            return true;
+        }
+        literal("false");
+        return false;
+    }
+
+    private Number readNumber() {
+        peek();
+        int start = position;
+        boolean decimal = false;
+        while (position < json.length() && "+-0123456789.eE".indexOf(json.charAt(position)) >= 0) {
+            decimal |= "eE.".indexOf(json.charAt(position)) >= 0;
+            position++;
+        }
+        String number = json.substring(start, position);
+        try {
+            return decimal ? (Number) Double.valueOf(number) : (Number) Long.valueOf(number);
+        } catch (NumberFormatException e) {
+            position = start;
+            throw error("a value");
+        }
+    }
+
+    private void begin(char bracket) {
+        beforeValue();
+        consume(bracket);
+        scopes.append(EMPTY);
+    }
+
+    private void end(char bracket) {
+        if (scope() == SEPARATOR) {
+            throw error("a value");
+        }
+        consume(bracket);
+        scopes.setLength(scopes.length() - 1);
+        afterValue();
+    }
+
+    private void beforeValue() {
+        if (scope() == VALUE) {
+            separator();
+        }
+    }
+
+    private Object after(Object value) {
+        afterValue();
+        return value;
+    }
+
+    private void afterValue() {
+        if (scopes.length() > 0) {
+            scopes.setCharAt(scopes.length() - 1, VALUE);
+            return;
+        }
+        // the top level value must be the whole result
+        skipWhitespaces();
+        if (position < json.length()) {
+            throw error("the end of the result");
+        }
+    }
+
+    private void separator() {
+        consume(',');
+        scopes.setCharAt(scopes.length() - 1, SEPARATOR);
+    }
+
+    private char scope() {
+        return scopes.length() == 0 ? EMPTY : scopes.charAt(scopes.length() - 1);
+    }
+
+    private char unescape(char c) {
+        switch (c) {
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u':
+                char unicode = (char) Integer.parseInt(json.substring(position, position + 4), 16);
+                position += 4;
+                return unicode;
+            default:
+                return c;
+        }
+    }
+
+    private void literal(String literal) {
+        if (!json.startsWith(literal, position)) {
+            throw error(literal);
+        }
+        position += literal.length();
+    }
+
+    private void consume(char expected) {
+        if (peek() != expected) {
+            throw error(String.valueOf(expected));
+        }
+        position++;
+    }
+
+    private char peek() {
+        skipWhitespaces();
+        if (position == json.length()) {
+            throw error("a value");
+        }
+        return json.charAt(position);
+    }
+
+    private void skipWhitespaces() {
+        while (position < json.length() && Character.isWhitespace(json.charAt(position))) {
+            position++;
+        }
+    }
+
+    private EvaluatorException error(String expected) {
+        return new EvaluatorException("Invalid result : expected " + expected + " at position " + position + " in " + json);
+    }
+}
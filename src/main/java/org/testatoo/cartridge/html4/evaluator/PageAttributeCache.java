@@ -0,0 +1,215 @@
+/**
+ * Copyright (C) 2008 Ovea <dev@testatoo.org>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.testatoo.cartridge.html4.evaluator;
+
+import org.testatoo.cartridge.html4.AttributeCache;
+import org.testatoo.cartridge.html4.element.Attribute;
+import org.testatoo.cartridge.html4.element.HtmlElementType;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * This class is the implementation of the attribute cache of the evaluators built on the tQuery helper scripts.
+ * The cached attributes are kept by element id for one page generation : a new generation token drops them all.
+ * <p/>
+ * The html types of the elements are always cached, until the next command sent to the page : a command may
+ * navigate to another page reusing the ids without the evaluator noticing it before its next evaluation.
+ * <p/>
+ * The states of the components (visible, enabled, checked...) follow the same rules as the attributes. They are
+ * also shared during a state snapshot, whether the cache is enabled or not.
+ *
+ * @author dev@testatoo.org
+ */
+final class PageAttributeCache implements AttributeCache {
+
+    private final Map<String, Map<Attribute, String>> attributes = new HashMap<String, Map<Attribute, String>>();
+    private final Map<String, HtmlElementType> types = new HashMap<String, HtmlElementType>();
+    private final Map<String, Integer> states = new HashMap<String, Integer>();
+    private String generation;
+    private int snapshots;
+    private boolean enabled;
+    private boolean strict;
+    private long hits;
+    private long misses;
+
+    @Override
+    public synchronized void enable() {
+        enabled = true;
+    }
+
+    @Override
+    public synchronized void disable() {
+        enabled = false;
+        attributes.clear();
+        states.clear();
+    }
+
+    @Override
+    public synchronized boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public synchronized void strict(boolean strict) {
+        this.strict = strict;
+    }
+
+    @Override
+    public synchronized boolean isStrict() {
+        return strict;
+    }
+
+    @Override
+    public synchronized void invalidate() {
+        attributes.clear();
+        types.clear();
+        states.clear();
+    }
+
+    @Override
+    public synchronized void invalidate(String id) {
+        attributes.remove(id);
+        types.remove(id);
+        states.remove(id);
+    }
+
+    @Override
+    public synchronized long hits() {
+        return hits;
+    }
+
+    @Override
+    public synchronized long misses() {
+        return misses;
+    }
+
+    /**
+     * To get a cached attribute
+     *
+     * @param id        the id of the html element
+     * @param attribute the attribute
+     * @return the cached value, null if the attribute must be read in the browser
+     */
+    synchronized String get(String id, Attribute attribute) {
+        if (!enabled) {
+            return null;
+        }
+        Map<Attribute, String> values = attributes.get(id);
+        String value = strict || values == null ? null : values.get(attribute);
+        if (value == null) {
+            misses++;
+        } else {
+            hits++;
+        }
+        return value;
+    }
+
+    synchronized void put(String id, Attribute attribute, String value) {
+        if (!enabled) {
+            return;
+        }
+        Map<Attribute, String> values = attributes.get(id);
+        if (values == null) {
+            values = new EnumMap<Attribute, String>(Attribute.class);
+            attributes.put(id, values);
+        }
+        values.put(attribute, value);
+    }
+
+    /**
+     * To drop the cached attributes and types after a command that may have changed the page
+     */
+    synchronized void flush() {
+        attributes.clear();
+        types.clear();
+        states.clear();
+    }
+
+    /**
+     * To get the cached html type of an element
+     *
+     * @param id the id of the html element
+     * @return the html type, null if not known
+     */
+    synchronized HtmlElementType type(String id) {
+        return types.get(id);
+    }
+
+    synchronized void type(String id, HtmlElementType type) {
+        types.put(id, type);
+    }
+
+    /**
+     * To get the cached state bits of an element
+     *
+     * @param id the id of the html element
+     * @return the state bits, null if they must be read in the browser
+     */
+    synchronized Integer state(String id) {
+        if (!enabled && snapshots == 0) {
+            return null;
+        }
+        Integer bits = strict && snapshots == 0 ? null : states.get(id);
+        if (!enabled) {
+            return bits;
+        }
+        if (bits == null) {
+            misses++;
+        } else {
+            hits++;
+        }
+        return bits;
+    }
+
+    synchronized void state(String id, int bits) {
+        if (enabled || snapshots > 0) {
+            states.put(id, bits);
+        }
+    }
+
+    /**
+     * To start sharing the states read until the matching end : snapshots can be nested
+     */
+    synchronized void beginSnapshot() {
+        snapshots++;
+    }
+
+    /**
+     * To end a snapshot : the states read are dropped with the last one when the cache is disabled
+     */
+    synchronized void endSnapshot() {
+        if (snapshots > 0 && --snapshots == 0 && !enabled) {
+            states.clear();
+        }
+    }
+
+    /**
+     * To give the generation token of the page under test read with an evaluation
+     *
+     * @param token the generation token
+     */
+    synchronized void generation(String token) {
+        if (!token.equals(generation)) {
+            generation = token;
+            attributes.clear();
+            types.clear();
+            states.clear();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/**
+ * Copyright (C) 2008 Ovea <dev@testatoo.org>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.testatoo.cartridge.html4.evaluator;
+
+import org.testatoo.cartridge.html4.EvaluatorException;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * This class is a list of elements read by pages : the first page gives the size of the list and the other pages
+ * are only read when an element they hold is needed, while iterating or with a random access.
+ * <p/>
+ * The pages are read from the page under test at different times : the elements matching the list may change
+ * in between, a missing element is then reported with an EvaluatorException.
+ *
+ * @author dev@testatoo.org
+ */
+final class PagedList<T> extends AbstractList<T> implements RandomAccess {
+
+    private final Pager<T> pager;
+    private final int pageSize;
+    private final int size;
+    private final Map<Integer, List<T>> pages = new HashMap<Integer, List<T>>();
+
+    /**
+     * Class constructor specifying how to read the pages, the first one being read right now
+     *
+     * @param pager    the reader of the pages
+     * @param pageSize the number of elements read at a time
+     */
+    PagedList(Pager<T> pager, int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("The page size must be positive : " + pageSize);
+        }
+        this.pager = pager;
+        this.pageSize = pageSize;
+        List<T> first = new ArrayList<T>(pageSize);
+        this.size = pager.load(0, pageSize, first);
+        pages.put(0, first);
+    }
+
+    @Override
+    public synchronized T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        int number = index / pageSize;
+        List<T> page = pages.get(number);
+        if (page == null) {
+            page = new ArrayList<T>(pageSize);
+            pager.load(number * pageSize, pageSize, page);
+            pages.put(number, page);
+        }
+        int offset = index - number * pageSize;
+        if (offset >= page.size()) {
+            throw new EvaluatorException("The element at index " + index + " is no more in the page : the list has changed since it has been read");
+        }
+        return page.get(offset);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * To read a page of elements in the page under test
+     */
+    interface Pager<T> {
+
+        /**
+         * To read a page of elements
+         *
+         * @param from  the index of the first element to read
+         * @param count the maximum number of elements to read
+         * @param page  the list receiving the elements read
+         * @return the number of elements in the whole list
+         */
+        int load(int from, int count, List<T> page);
+    }
+}
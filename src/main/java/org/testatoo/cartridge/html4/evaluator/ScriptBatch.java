@@ -0,0 +1,239 @@
+/**
+ * Copyright (C) 2008 Ovea <dev@testatoo.org>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.testatoo.cartridge.html4.evaluator;
+
+import org.testatoo.cartridge.html4.Batch;
+import org.testatoo.cartridge.html4.EvaluatorException;
+import org.testatoo.cartridge.html4.element.Attribute;
+import org.testatoo.cartridge.html4.element.HtmlElementType;
+import org.testatoo.cartridge.html4.element.Option;
+import org.testatoo.core.component.AbstractWindow;
+import org.testatoo.core.component.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testatoo.cartridge.html4.evaluator.AbstractHtmlEvaluator.invocation;
+
+/**
+ * This class is the implementation of a batch of reads for the evaluators built on the tQuery helper scripts.
+ * All the queued reads are wrapped in one script : each read runs in its own try/catch and the results
+ * are sent back as a JSON array of [status, value] entries (status is 1 for a success, 0 for a failure).
+ * <p/>
+ * The attributes and the html types share the cache of the evaluator : the cached values are not sent to the
+ * browser and the values read are cached. The contents of the components are read with the text operation, which
+ * trims and collapses the whitespaces as the UI Test engines do.
+ *
+ * @author dev@testatoo.org
+ */
+final class ScriptBatch implements Batch {
+
+    private final AbstractHtmlEvaluator<?> evaluator;
+    private final List<Entry<?>> pending = new ArrayList<Entry<?>>();
+
+    ScriptBatch(AbstractHtmlEvaluator<?> evaluator) {
+        this.evaluator = evaluator;
+    }
+
+    @Override
+    public Result<String> attribute(final String id, final Attribute attribute) {
+        String cached = evaluator.attributeCache.get(id, attribute);
+        if (cached != null) {
+            return resolved(cached);
+        }
+        return add(new Entry<String>(element(id) + "return " + invocation(AbstractHtmlEvaluator.accessor(attribute), id, attribute.toString()) + ";") {
+            @Override
+            void cache(String value) {
+                evaluator.attributeCache.put(id, attribute, value);
+            }
+
+            @Override
+            String convert(String value) {
+                return value;
+            }
+        });
+    }
+
+    @Override
+    public Result<String> nodeTextContent(Component component) {
+        return add(new Entry<String>(element(component.id()) + "return " + invocation("text", component.id()) + ";") {
+            @Override
+            String convert(String value) {
+                return value;
+            }
+        });
+    }
+
+    @Override
+    public Result<Boolean> isVisible(Component component) {
+        if (component instanceof AbstractWindow) {
+            return resolved(true);
+        }
+        return add(new Entry<Boolean>(element(component.id()) + "return " + invocation("visible", component.id()) + ";") {
+            @Override
+            Boolean convert(String value) {
+                return Boolean.valueOf(value);
+            }
+        });
+    }
+
+    @Override
+    public Result<Boolean> selected(Option option) {
+        return add(new Entry<Boolean>(element(option.id()) + "return " + invocation("prop", option.id(), "selected") + " === true;") {
+            @Override
+            Boolean convert(String value) {
+                return Boolean.valueOf(value);
+            }
+        });
+    }
+
+    @Override
+    public Result<HtmlElementType> htmlElementType(final String id) {
+        HtmlElementType cached = evaluator.attributeCache.type(id);
+        if (cached != null) {
+            return resolved(cached);
+        }
+        return add(new Entry<HtmlElementType>(element(id) + "return " + invocation("htmlType", id) + ";") {
+            @Override
+            void cache(String value) {
+                evaluator.attributeCache.type(id, HtmlElementType.valueOfIgnoreCase(value));
+            }
+
+            @Override
+            HtmlElementType convert(String value) {
+                return HtmlElementType.valueOfIgnoreCase(value);
+            }
+        });
+    }
+
+    @Override
+    public void execute() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Entry<?>> entries = new ArrayList<Entry<?>>(pending);
+        pending.clear();
+
+        StringBuilder script = new StringBuilder("(function(){var q=[");
+        for (int i = 0; i < entries.size(); i++) {
+            if (i > 0) {
+                script.append(',');
+            }
+            script.append("function(){").append(entries.get(i).script).append('}');
+        }
+        script.append("],r=[];for(var i=0;i<q.length;i++){try{var v=q[i]();r.push([1,(v===undefined||v===null)?'':String(v)]);}")
+                .append("catch(ex){r.push([0,String(ex&&ex.message?ex.message:ex)]);}}return $.toJSON(r);})()");
+
+        try {
+            JsonReader reader = new JsonReader(evaluator.evaljQuery(script.toString()));
+            reader.beginArray();
+            for (Entry<?> entry : entries) {
+                if (!reader.hasNext()) {
+                    throw new EvaluatorException("Missing result in batch for : " + entry.script);
+                }
+                reader.beginArray();
+                boolean success = reader.nextNumber().intValue() == 1;
+                entry.resolve(success, reader.nextString());
+                reader.endArray();
+            }
+            reader.endArray();
+        } catch (RuntimeException e) {
+            for (Entry<?> entry : entries) {
+                if (!entry.resolved) {
+                    entry.fail(e);
+                }
+            }
+            throw e;
+        }
+    }
+
+    private <T> Entry<T> add(Entry<T> entry) {
+        pending.add(entry);
+        return entry;
+    }
+
+    private static <T> Result<T> resolved(final T value) {
+        return new Result<T>() {
+            @Override
+            public T get() {
+                return value;
+            }
+
+            @Override
+            public boolean failed() {
+                return false;
+            }
+        };
+    }
+
+    private static String element(String id) {
+        return invocation("check", id) + ";";
+    }
+
+    private abstract class Entry<T> implements Result<T> {
+
+        private final String script;
+        private boolean resolved;
+        private boolean success;
+        private String value;
+        private RuntimeException error;
+
+        private Entry(String script) {
+            this.script = script;
+        }
+
+        abstract T convert(String value);
+
+        /**
+         * To cache a value read with the batch script
+         *
+         * @param value the value read
+         */
+        void cache(String value) {
+        }
+
+        @Override
+        public T get() {
+            if (failed()) {
+                throw error == null ? new EvaluatorException(value) : new EvaluatorException(error.getMessage(), error);
+            }
+            return convert(value);
+        }
+
+        @Override
+        public boolean failed() {
+            if (!resolved) {
+                execute();
+            }
+            return !success;
+        }
+
+        private void resolve(boolean success, String value) {
+            this.success = success;
+            this.value = value;
+            this.resolved = true;
+            if (success) {
+                cache(value);
+            }
+        }
+
+        private void fail(RuntimeException error) {
+            this.error = error;
+            resolve(false, error.getMessage());
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/**
+ * Copyright (C) 2008 Ovea <dev@testatoo.org>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.testatoo.cartridge.html4.evaluator;
+
+import org.testatoo.cartridge.html4.Bootstraper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+
+/**
+ * This class gives the helper scripts injected in the pages under test.
+ * The scripts are read once per JVM and shared by all the evaluators as pre-concatenated strings : the lite bundle
+ * is injected first and the full bundle only when an expression needs more than the lite runtime provides.
+ *
+ * @author dev@testatoo.org
+ */
+public final class ScriptBundle {
+
+    private ScriptBundle() {
+    }
+
+    /**
+     * To get the helper scripts (tQuery, tQuery simulate and testatoo utilities) as a single script
+     *
+     * @return the content of the helper scripts
+     */
+    public static String content() {
+        return Holder.CONTENT;
+    }
+
+    /**
+     * To get the helper scripts built on the tQuery lite runtime (tQuery lite, tQuery simulate and testatoo utilities)
+     * as a single script
+     *
+     * @return the content of the lite helper scripts
+     */
+    public static String lite() {
+        return LiteHolder.CONTENT;
+    }
+
+    /**
+     * To load the helper scripts before the first page needs them
+     */
+    public static void preload() {
+        lite();
+        content();
+    }
+
+    private static String load(String... names) {
+        StringBuilder builder = new StringBuilder(160 * 1024);
+        char[] buffer = new char[8192];
+        for (String name : names) {
+            InputStream stream = Bootstraper.class.getResourceAsStream(name);
+            if (stream == null) {
+                throw new IllegalStateException("Internal error occured when trying to load custom scripts : " + name + " not found");
+            }
+            try {
+                Reader reader = new InputStreamReader(stream, "UTF-8");
+                try {
+                    int read;
+                    while ((read = reader.read(buffer, 0, buffer.length)) > 0) {
+                        builder.append(buffer, 0, read);
+                    }
+                } finally {
+                    reader.close();
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException("Internal error occured when trying to load custom scripts : " + e.getMessage(), e);
+            }
+            // Keep scripts apart : a script may end without semicolon nor new line
+            builder.append(";\n");
+        }
+        return builder.toString();
+    }
+
+    private static final class Holder {
+        private static final String CONTENT = load("tquery-1.7.2.js", "tquery-simulate.js", "tquery-util.js");
+    }
+
+    private static final class LiteHolder {
+        private static final String CONTENT = load("tquery-lite.js", "tquery-simulate.js", "tquery-util.js");
+    }
+}
@@ -0,0 +1,194 @@
+/**
+ * Copyright (C) 2008 Ovea <dev@testatoo.org>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.testatoo.cartridge.html4.evaluator;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.InetSocketAddress;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * This class is a small embedded HTTP server giving the helper scripts to the browser.
+ * The scripts are served under a path containing their hash with long-lived cache headers : the browser loads them
+ * once and takes them from its cache on the following pages.
+ * <p/>
+ * The server must be reachable from the browser : when it is not, the evaluators inject the scripts inline in the page.
+ * A browser of a remote grid reaches a server bound to a public address (or to all the addresses) with the host name
+ * of the machine running the tests.
+ *
+ * @author dev@testatoo.org
+ */
+public final class ScriptServer {
+
+    private static final String CONTEXT = "/testatoo/";
+
+    private final HttpServer server;
+    private final String host;
+    private final Script lite;
+    private final Script full;
+
+    private ScriptServer(HttpServer server, String host) {
+        this.server = server;
+        this.host = host;
+        this.lite = new Script("tquery-lite-bundle.js", ScriptBundle.lite());
+        this.full = new Script("tquery-bundle.js", ScriptBundle.content());
+    }
+
+    /**
+     * To start a server on a free port of the loopback interface
+     *
+     * @return the started server
+     */
+    public static ScriptServer start() {
+        return start("localhost", 0);
+    }
+
+    /**
+     * To start a server
+     *
+     * @param host the host name used by the browser to reach the server
+     * @param port the port of the server, 0 to use a free port
+     * @return the started server
+     */
+    public static ScriptServer start(String host, int port) {
+        return start(host, host, port);
+    }
+
+    /**
+     * To start a server on a given address, reached by the browser with another host name
+     *
+     * @param bindAddress the address the server listens on, null to listen on all the addresses
+     * @param host        the host name used by the browser to reach the server
+     * @param port        the port of the server, 0 to use a free port
+     * @return the started server
+     */
+    public static ScriptServer start(String bindAddress, String host, int port) {
+        try {
+            InetSocketAddress address = bindAddress == null ? new InetSocketAddress(port) : new InetSocketAddress(bindAddress, port);
+            HttpServer server = HttpServer.create(address, 0);
+            final ScriptServer scriptServer = new ScriptServer(server, host);
+            server.createContext(CONTEXT, new HttpHandler() {
+                @Override
+                public void handle(HttpExchange exchange) throws IOException {
+                    scriptServer.serve(exchange);
+                }
+            });
+            server.start();
+            return scriptServer;
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to start the script server on " + (bindAddress == null ? "*" : bindAddress) + ":" + port + " : " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * To get the url of the helper scripts (tQuery, tQuery simulate and testatoo utilities)
+     *
+     * @return the url of the script
+     */
+    public String url() {
+        return url(full);
+    }
+
+    /**
+     * To get the url of the helper scripts built on the tQuery lite runtime
+     *
+     * @return the url of the script
+     */
+    public String liteUrl() {
+        return url(lite);
+    }
+
+    /**
+     * To stop the server
+     */
+    public void stop() {
+        server.stop(0);
+    }
+
+    private String url(Script script) {
+        return "http://" + host + ":" + server.getAddress().getPort() + script.path;
+    }
+
+    private void serve(HttpExchange exchange) throws IOException {
+        try {
+            String path = exchange.getRequestURI().getPath();
+            Script script = lite.path.equals(path) ? lite : full.path.equals(path) ? full : null;
+            if (script == null || !("GET".equals(exchange.getRequestMethod()) || "HEAD".equals(exchange.getRequestMethod()))) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", "text/javascript; charset=UTF-8");
+            // The path changes with the content : the script can be cached forever
+            exchange.getResponseHeaders().set("Cache-Control", "public, max-age=31536000");
+            exchange.getResponseHeaders().set("ETag", script.etag);
+            // The body depends on the accepted encodings
+            exchange.getResponseHeaders().set("Vary", "Accept-Encoding");
+            if (script.etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+            String encoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+            byte[] body = script.content;
+            if (encoding != null && encoding.contains("gzip")) {
+                exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+                body = script.gzipped;
+            }
+            if ("HEAD".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            OutputStream out = exchange.getResponseBody();
+            out.write(body);
+            out.flush();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static final class Script {
+
+        private final String path;
+        private final String etag;
+        private final byte[] content;
+        private final byte[] gzipped;
+
+        private Script(String name, String content) {
+            String hash = Integer.toHexString(content.hashCode());
+            this.path = CONTEXT + hash + "/" + name;
+            this.etag = "\"" + hash + "\"";
+            try {
+                this.content = content.getBytes("UTF-8");
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream(this.content.length / 3);
+                GZIPOutputStream gzip = new GZIPOutputStream(bytes);
+                gzip.write(this.content);
+                gzip.close();
+                this.gzipped = bytes.toByteArray();
+            } catch (UnsupportedEncodingException e) {
+                throw new IllegalStateException(e.getMessage(), e);
+            } catch (IOException e) {
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+        }
+    }
+}
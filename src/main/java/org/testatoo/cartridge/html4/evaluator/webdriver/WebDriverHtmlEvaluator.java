@@ -0,0 +1,223 @@
+/**
+ * Copyright (C) 2008 Ovea <dev@testatoo.org>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.testatoo.cartridge.html4.evaluator.webdriver;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.testatoo.cartridge.html4.EvaluatorException;
+import org.testatoo.cartridge.html4.evaluator.AbstractHtmlEvaluator;
+import org.testatoo.cartridge.html4.evaluator.ScriptBundle;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class is the implementation of an evaluator for html4 elements with WebDriver as UI Test engine.
+ * Scripts are run with executeScript : the values come back as native strings, booleans, numbers, lists and maps,
+ * and the arguments of the tQuery operations are sent as script arguments.
+ * <p/>
+ * The waits for elements are done in the browser with executeAsyncScript : the script timeout of the driver is
+ * set for each wait.
+ *
+ * @author dev@testatoo.org
+ */
+public final class WebDriverHtmlEvaluator extends AbstractHtmlEvaluator<WebDriver> {
+
+    private final WebDriver driver;
+    private final JavascriptExecutor executor;
+    private volatile String generation;
+    private static final String TQUERY_MISSING = "__TQUERY_MISSING__";
+    private static final String TQUERY_UNSUPPORTED = "__TQUERY_UNSUPPORTED__";
+    private static final long SCRIPT_TIMEOUT_MARGIN = 1000;
+
+    /**
+     * Class constructor specifying the used WebDriver
+     *
+     * @param name   of the evaluator
+     * @param driver the WebDriver, able to execute JavaScript
+     */
+    public WebDriverHtmlEvaluator(String name, WebDriver driver) {
+        super(name);
+        if (!(driver instanceof JavascriptExecutor)) {
+            throw new EvaluatorException("The WebDriver " + driver.getClass().getName() + " cannot execute JavaScript");
+        }
+        this.driver = driver;
+        this.executor = (JavascriptExecutor) driver;
+    }
+
+    public WebDriverHtmlEvaluator(WebDriver driver) {
+        this(DEFAULT_NAME, driver);
+    }
+
+    /**
+     * @see org.testatoo.core.Evaluator
+     */
+    @Override
+    public WebDriver implementation() {
+        return driver;
+    }
+
+    /**
+     * @see org.testatoo.cartridge.html4.HtmlEvaluator
+     */
+    @Override
+    public String pageSource() {
+        return driver.getPageSource();
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("WebDriverHtmlEvaluator");
+        sb.append("{location='").append(driver.getCurrentUrl()).append('\'');
+        sb.append('}');
+        return sb.toString();
+    }
+
+    @Override
+    protected String evaljQuery(String expression) {
+        return (String) execute("var v=" + expression + ";return v==null?'null':String(v);");
+    }
+
+    @Override
+    protected java.lang.Object value(String expression) {
+        return execute("return " + expression + ";");
+    }
+
+    @Override
+    protected java.lang.Object call(String operation, java.lang.Object... arguments) {
+        java.lang.Object[] values = new java.lang.Object[arguments.length + 1];
+        values[0] = operation;
+        System.arraycopy(arguments, 0, values, 1, arguments.length);
+        return execute("return $.ops[args[0]].apply($.ops, Array.prototype.slice.call(args, 1));", values);
+    }
+
+    /**
+     * To get the generation token of the page under test : it changes each time the helper scripts are injected
+     * in a new page and is null when a navigation has been triggered and no evaluation has been done since.
+     *
+     * @return the current page generation token
+     */
+    String generation() {
+        return generation;
+    }
+
+    @Override
+    protected void pageChanged() {
+        super.pageChanged();
+        generation = null;
+    }
+
+    @Override
+    protected void load(String url) {
+        driver.get(url);
+        pageChanged();
+        // The new page cannot have the helpers : they are injected right now instead of on a failed evaluation
+        try {
+            executor.executeScript(ScriptBundle.lite());
+        } catch (RuntimeException e) {
+            // Injected again on the next evaluation
+        }
+    }
+
+    @Override
+    protected boolean isElementPresent(String id) {
+        return !driver.findElements(By.id(id)).isEmpty();
+    }
+
+    @Override
+    protected String fieldValue(String id) {
+        return element(id).getAttribute("value");
+    }
+
+    @Override
+    protected String pageTitle() {
+        return driver.getTitle();
+    }
+
+    @Override
+    protected String nodeText(String id) {
+        return element(id).getText();
+    }
+
+    @Override
+    protected void nativeClick(String id) {
+        element(id).click();
+    }
+
+    @Override
+    protected Boolean waitForMatch(String query, long timeout) {
+        // The condition is polled in the browser : the wait ends as soon as the expression matches, or when the
+        // helpers are missing or cannot run the expression so that they are injected again
+        driver.manage().timeouts().setScriptTimeout(timeout + SCRIPT_TIMEOUT_MARGIN, TimeUnit.MILLISECONDS);
+        try {
+            java.lang.Object matched = executor.executeAsyncScript("var done=arguments[arguments.length-1],end=new Date().getTime()+arguments[0];"
+                    + "(function poll(){var w=window,m;if(!w.testatoo_generation){return done(true);}"
+                    + "try{m=(function($, jQuery){return " + query + ".length>0;})(w.tQuery, w.tQuery);}catch(e){return done(true);}"
+                    + "if(m){return done(true);}if(new Date().getTime()>=end){return done(false);}setTimeout(poll,50);})();", timeout);
+            return Boolean.TRUE.equals(matched);
+        } catch (TimeoutException e) {
+            return false;
+        } catch (WebDriverException e) {
+            // The driver cannot wait in the browser, or the page has been unloaded : the elements are polled instead
+            return null;
+        }
+    }
+
+    // -------------- Private ----------------------
+
+    private WebElement element(String id) {
+        List<WebElement> elements = driver.findElements(By.id(id));
+        if (elements.isEmpty()) {
+            throw new EvaluatorException("Cannot find component with id=" + id);
+        }
+        return elements.get(0);
+    }
+
+    /**
+     * To run a statement in the page with $ bound to tQuery and args to the script arguments.
+     * The value is sent back with the page generation token stamped by tquery-util.js in a single command.
+     */
+    private java.lang.Object execute(String statement, java.lang.Object... arguments) {
+        String script = "if(!window.testatoo_generation){return '__TQUERY_MISSING__';}"
+                + "try{return [window.testatoo_generation,(function($, jQuery, args){" + statement + "})(window.tQuery, window.tQuery, arguments)];}"
+                + "catch(e){if(window.tQuery.lite&&window.tQuery.unsupported(e)){return '__TQUERY_UNSUPPORTED__';}throw e;}";
+        java.lang.Object result = executor.executeScript(script, arguments);
+        if (TQUERY_MISSING.equals(result)) {
+            executor.executeScript(ScriptBundle.lite());
+            result = executor.executeScript(script, arguments);
+        }
+        if (TQUERY_UNSUPPORTED.equals(result)) {
+            executor.executeScript(ScriptBundle.content());
+            result = executor.executeScript(script, arguments);
+        }
+        if (!(result instanceof List)) {
+            throw new EvaluatorException("Unable to load the testatoo helper scripts in the page");
+        }
+        List<?> tokenAndValue = (List<?>) result;
+        String token = (String) tokenAndValue.get(0);
+        if (!token.equals(generation)) {
+            generation = token;
+            pageGeneration(token);
+        }
+        return tokenAndValue.get(1);
+    }
+}
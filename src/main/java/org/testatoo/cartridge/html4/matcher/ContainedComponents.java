@@ -0,0 +1,65 @@
+/**
+ * Copyright (C) 2008 Ovea <dev@testatoo.org>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.testatoo.cartridge.html4.matcher;
+
+import org.hamcrest.Description;
+import org.hamcrest.Factory;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeMatcher;
+import org.testatoo.cartridge.html4.element.HtmlContainer;
+import org.testatoo.core.component.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class ContainedComponents extends TypeSafeMatcher<HtmlContainer> {
+
+    private Component[] components;
+    private List<Component> missing = Collections.emptyList();
+
+    public boolean matchesSafely(HtmlContainer container) {
+        // The missing components are read once : they are given by the description of a failed match
+        missing = container.missing(components);
+        return missing.isEmpty();
+    }
+
+    public void describeTo(Description description) {
+        description.appendText("contains components : " + ids(Arrays.asList(components)));
+        if (!missing.isEmpty()) {
+            description.appendText(", missing : " + ids(missing));
+        }
+    }
+
+    public ContainedComponents(Component... components) {
+        this.components = components;
+    }
+
+    @Factory
+    public static Matcher<HtmlContainer> are(Component... components) {
+        return new ContainedComponents(components);
+    }
+
+    private static List<String> ids(List<Component> components) {
+        List<String> ids = new ArrayList<String>(components.size());
+        for (Component component : components) {
+            ids.add(component.id());
+        }
+        return ids;
+    }
+}
@@ -17,9 +17,11 @@
 package org.testatoo.cartridge.html4.matcher;
 
 import org.hamcrest.Matcher;
+import org.testatoo.cartridge.html4.element.HtmlContainer;
 import org.testatoo.cartridge.html4.element.Option;
 import org.testatoo.cartridge.html4.element.OptionGroup;
 import org.testatoo.cartridge.html4.element.Select;
+import org.testatoo.core.component.Component;
 
 /**
  * This class defines the matchers (based on hamcrest matchers) used in testatoo tests and specific to html4 testing.
@@ -66,4 +68,25 @@ public class Matchers extends org.testatoo.core.matcher.Matchers {
         throw new UnsupportedOperationException("No matcher found");
     }
 
+    /**
+     * To test that an html element contains all the given components, using the syntax "containsAll(c1, c2)" :
+     * the components are looked up in one call and the missing ones are given when the test fails
+     *
+     * @param components the components expected in the html element
+     * @return a new ContainedComponents matcher created with the given components
+     */
+    public static Matcher<HtmlContainer> containsAll(Component... components) {
+        return ContainedComponents.are(components);
+    }
+
+    /**
+     * To read the state of each component once for all the given matchers, using the syntax
+     * "atOnce(allOf(enabled(), visible()))" : the state is shared whether the attribute cache is enabled or not
+     *
+     * @param matcher the matcher combining the state matchers
+     * @return a new SharedStates matcher wrapping the given matcher
+     */
+    public static <T> Matcher<T> atOnce(Matcher<T> matcher) {
+        return SharedStates.atOnce(matcher);
+    }
 }
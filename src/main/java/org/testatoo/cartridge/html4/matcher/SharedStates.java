@@ -0,0 +1,60 @@
+/**
+ * Copyright (C) 2008 Ovea <dev@testatoo.org>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.testatoo.cartridge.html4.matcher;
+
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Factory;
+import org.hamcrest.Matcher;
+import org.testatoo.cartridge.html4.HtmlEvaluator;
+import org.testatoo.core.EvaluatorHolder;
+
+/**
+ * This class is a matcher reading the state of each component once for all the matchers it wraps : the match is
+ * done in a state snapshot of the evaluator.
+ *
+ * @author dev@testatoo.org
+ * @see HtmlEvaluator#beginStateSnapshot()
+ */
+public class SharedStates<T> extends BaseMatcher<T> {
+
+    private final HtmlEvaluator<?> evaluator;
+    private final Matcher<T> matcher;
+
+    public SharedStates(HtmlEvaluator<?> evaluator, Matcher<T> matcher) {
+        this.evaluator = evaluator;
+        this.matcher = matcher;
+    }
+
+    public boolean matches(Object item) {
+        evaluator.beginStateSnapshot();
+        try {
+            return matcher.matches(item);
+        } finally {
+            evaluator.endStateSnapshot();
+        }
+    }
+
+    public void describeTo(Description description) {
+        matcher.describeTo(description);
+    }
+
+    @Factory
+    public static <T> Matcher<T> atOnce(Matcher<T> matcher) {
+        return new SharedStates<T>((HtmlEvaluator<?>) EvaluatorHolder.get(), matcher);
+    }
+}
@@ -55,7 +55,7 @@ public final class ComponentFactory {
         });
     }
 
-    private static HtmlEvaluator evaluator() {
+    private static HtmlEvaluator<?> evaluator() {
         return EvaluatorHolder.get();
     }
 
@@ -0,0 +1 @@
+(function(window,document){var rquickId=/^#([\w\-]+)$/,rid=/^#((?:[\w\u00a0-\uffff\-]|\\.)+)/,rpseudo=/^(selected|visible|hidden|input|button|submit|reset|text|radio|checkbox|file|password|image|header|first|last|even|odd|eq|gt|lt|contains)(?![\w\-])/,rcombinator=/^[>+~]/,rboolean=/^(?:autofocus|autoplay|async|checked|controls|defer|disabled|hidden|loop|multiple|open|readonly|required|scoped|selected)$/i,rfocusable=/^(?:button|input|object|select|textarea)$/i,rclickable=/^a(?:rea)?$/i,propFix={tabindex:'tabIndex',readonly:'readOnly','for':'htmlFor','class':'className',maxlength:'maxLength',cellspacing:'cellSpacing',cellpadding:'cellPadding',rowspan:'rowSpan',colspan:'colSpan',usemap:'useMap',frameborder:'frameBorder',contenteditable:'contentEditable'},mark=0;var tQuery=function(selector,context){return new Lite(elements(selector,context));};function Lite(elements){for(var i=0;i<elements.length;i++){this[i]=elements[i];}this.length=elements.length;}function unsupported(what){var error=new Error('Not supported by the tQuery lite runtime : '+what);error.tqueryUnsupported=true;return error;}function toArray(list){var array=[];for(var i=0;i<list.length;i++){array.push(list[i]);}return array;}function nodeName(e){return e.nodeName?e.nodeName.toLowerCase():'';}function elements(selector,context){if(selector===null||selector===undefined||selector==='')return[];if(typeof selector=='string'){if(selector.charAt(0)=='<')throw unsupported('html fragment '+selector);var match=rquickId.exec(selector);if(match&&!context){var e=document.getElementById(match[1]);return e&&e.id===match[1]?[e]:[];}return query(selector,context?elements(context):null);}if(selector.nodeType||selector===selector.window)return[selector];if(typeof selector=='function')throw unsupported('ready callback');if(typeof selector.length=='number')return toArray(selector);return[selector];}function parse(selector){var parts=[],steps=[],css='',depth=0,quote=null,i=0,c,match;while(i<selector.length){c=selector.charAt(i);if(quote){css+=c;if(c=='\\'){css+=selector.charAt(++i);}else if(c==quote){quote=null;}i++;continue;}if(c=='\\'){css+=c+selector.charAt(i+1);i+=2;continue;}if(c=='"'||c=="'"){quote=c;}else if(c=='['||c=='('){depth++;}else if(c==']'||c==')'){depth--;}else if(depth==0&&c==','){steps.push({css:css});parts.push(steps);steps=[];css='';i++;continue;}else if(depth==0&&c=='#'&&(match=rid.exec(selector.substr(i)))&&/^-?\d/.test(match[1])){css+='[id="'+match[1].replace(/\\(.)/g,'$1').replace(/["\\]/g,'\\$&')+'"]';i+=match[0].length;continue;}else if(depth==0&&c==':'&&(match=rpseudo.exec(selector.substr(i+1)))){var step={css:css,filter:match[1],arg:null};i+=match[0].length+1;if(selector.charAt(i)=='('){var end=closing(selector,i);step.arg=tQuery.trim(selector.substring(i+1,end)).replace(/^(['"])(.*)\1$/,'$2');i=end+1;}steps.push(step);css='';continue;}css+=c;i++;}steps.push({css:css});parts.push(steps);return parts;}function closing(selector,start){var quote=null;for(var i=start+1;i<selector.length;i++){var c=selector.charAt(i);if(quote){if(c=='\\'){i++;}else if(c==quote){quote=null;}}else if(c=='"'||c=="'"){quote=c;}else if(c==')'){return i;}}throw unsupported('selector '+selector);}function query(selector,roots){var parts=parse(selector),simple=true,i;for(i=0;i<parts.length;i++){simple=simple&&parts[i].length==1;}if(simple&&!roots){var css=[];for(i=0;i<parts.length;i++){css.push(parts[i][0].css);}return select(document,css.join(','));}if(parts.length==1)return run(parts[0],roots);var result=[];for(i=0;i<parts.length;i++){result=result.concat(run(parts[i],roots));}return unique(result);}function run(steps,roots){var set=roots,i,step,css;for(i=0;i<steps.length;i++){step=steps[i];css=tQuery.trim(step.css);if(i==0||step.css){if(i>0&&!/^\s/.test(step.css)&&!rcombinator.test(step.css))throw unsupported('selector '+step.css+' after :'+steps[i-1].filter);if(step.filter&&(!css||/[\s>+~]$/.test(step.css))){css=css?css+' *':'*';}if(css){set=set?find(set,css):select(document,css);}else if(i==0){set=[];}}if(step.filter){set=filter(set,step.filter,step.arg);}}return set;}function find(roots,css){var result=[],i;for(i=0;i<roots.length;i++){var root=roots[i];if(root.nodeType==9){result=result.concat(select(root,css));continue;}var id=root.getAttribute('id'),generated=!id;if(generated){root.setAttribute('id',id='__tquery_root__');}try{var scope=/^[+~]/.test(css)?root.parentNode:root;result=result.concat(scope?select(scope,'[id="'+id.replace(/["\\]/g,'\\$&')+'"] '+css):[]);}finally{if(generated){root.removeAttribute('id');}}}return roots.length>1?unique(result):result;}function select(scope,css){if(!scope.querySelectorAll)throw unsupported('browser without querySelectorAll');try{return toArray(scope.querySelectorAll(css));}catch(e){throw unsupported('selector '+css);}}function filter(set,name,arg){var result=[],i,test=positions[name];if(test){arg=parseInt(arg,10);for(i=0;i<set.length;i++){if(test(i,set.length,arg)){result.push(set[i]);}}return result;}test=filters[name];for(i=0;i<set.length;i++){if(set[i].nodeType==1&&test(set[i],arg)){result.push(set[i]);}}return result;}function unique(set){var result=[],stamp='__tquery_mark__'+(++mark),i;for(i=0;i<set.length;i++){if(set[i][stamp]!==true){set[i][stamp]=true;result.push(set[i]);}}for(i=0;i<result.length;i++){try{delete result[i][stamp];}catch(e){result[i][stamp]=undefined;}}return result.sort(function(a,b){if(a.compareDocumentPosition)return a.compareDocumentPosition(b)&4?-1:1;return a.sourceIndex-b.sourceIndex;});}function matches(e,selector){var parts=parse(selector);if(parts.length==1&&parts[0].length==2&&!tQuery.trim(parts[0][0].css)&&!tQuery.trim(parts[0][1].css)&&filters[parts[0][0].filter])return filters[parts[0][0].filter](e,parts[0][0].arg);if(parts.length==1&&parts[0].length==1){var matcher=e.matches||e.webkitMatchesSelector||e.mozMatchesSelector||e.msMatchesSelector||e.oMatchesSelector;if(matcher){try{return matcher.call(e,parts[0][0].css);}catch(ex){throw unsupported('selector '+selector);}}}var all=query(selector,null);for(var i=0;i<all.length;i++){if(all[i]===e)return true;}return false;}function hidden(e){if(e.offsetWidth===0&&e.offsetHeight===0)return true;if(!tQuery.browser.msie)return false;var style=e.currentStyle||(window.getComputedStyle?window.getComputedStyle(e,null):null);return(e.style&&e.style.display||style&&style.display)==='none';}function inputOfType(type){return function(e){return nodeName(e)=='input'&&e.type===type;};}var filters={selected:function(e){if(e.parentNode){e.parentNode.selectedIndex;}return e.selected===true;},visible:function(e){return!hidden(e);},hidden:hidden,input:function(e){return/^(?:input|select|textarea|button)$/i.test(e.nodeName);},button:function(e){return nodeName(e)=='button'||nodeName(e)=='input'&&e.type==='button';},submit:function(e){return(nodeName(e)=='input'||nodeName(e)=='button')&&e.type==='submit';},reset:function(e){return(nodeName(e)=='input'||nodeName(e)=='button')&&e.type==='reset';},text:function(e){var type=e.getAttribute('type');return nodeName(e)=='input'&&e.type==='text'&&(type==='text'||type===null);},radio:inputOfType('radio'),checkbox:inputOfType('checkbox'),file:inputOfType('file'),password:inputOfType('password'),image:inputOfType('image'),header:function(e){return/^h\d$/i.test(e.nodeName);},contains:function(e,text){return(e.textContent||e.innerText||'').indexOf(text)>=0;}};var positions={first:function(i){return i===0;},last:function(i,length){return i===length-1;},even:function(i){return i%2===0;},odd:function(i){return i%2===1;},eq:function(i,length,n){return i===n;},gt:function(i,length,n){return i>n;},lt:function(i,length,n){return i<n;}};tQuery.fn=Lite.prototype=tQuery.prototype;tQuery.extend=tQuery.fn.extend=function(){var target=arguments[0],i=1;if(arguments.length==1){target=this;i=0;}for(;i<arguments.length;i++){var source=arguments[i];if(source!==null&&source!==undefined){for(var name in source){if(source[name]!==undefined){target[name]=source[name];}}}}return target;};tQuery.extend({lite:true,unsupported:function(error){return!!error&&error.tqueryUnsupported===true;},trim:function(text){return text===null||text===undefined?'':String(text).replace(/^\s+|\s+$/g,'');},isFunction:function(value){return typeof value=='function';},isArray:function(value){return Object.prototype.toString.call(value)=='[object Array]';},inArray:function(value,array){for(var i=0;array&&i<array.length;i++){if(array[i]===value)return i;}return-1;},each:function(list,callback){for(var i=0;i<list.length;i++){if(callback.call(list[i],i,list[i])===false)break;}return list;},map:function(list,callback){var result=[];for(var i=0;i<list.length;i++){var value=callback(list[i],i);if(value!==null&&value!==undefined){result.push(value);}}return result.concat.apply([],result);},browser:(function(ua){var match=/(webkit)[ \/]([\w.]+)/.exec(ua)||/(opera)(?:.*version)?[ \/]([\w.]+)/.exec(ua)||/(msie) ([\w.]+)/.exec(ua)||ua.indexOf('compatible')<0&&/(mozilla)(?:.*? rv:([\w.]+))?/.exec(ua)||[];var browser={};if(match[1]){browser[match[1]]=true;browser.version=match[2]||'0';}if(browser.webkit){browser.safari=true;}return browser;})(navigator.userAgent.toLowerCase())});function attr(e,name,value){if(!e||e.nodeType!=1)return undefined;var propName=propFix[name.toLowerCase()]||name;if(value===undefined){if(rboolean.test(name)){return e[propName]===true||typeof e[propName]!='boolean'&&e.getAttribute(name)!==null?name.toLowerCase():undefined;}if(name=='value'&&'value'in e&&nodeName(e)!='button')return e.value;var result=e.getAttribute(name,2);return result===null?undefined:result;}if(rboolean.test(name)){if(value===false){e.removeAttribute(name);if(propName in e){e[propName]=false;}}else{e.setAttribute(name,name.toLowerCase());if(propName in e){e[propName]=true;}}}else if(value===null){e.removeAttribute(name);}else if(name=='value'&&'value'in e&&nodeName(e)!='button'){e.value=value;}else{e.setAttribute(name,String(value));}return undefined;}function prop(e,name){name=propFix[name]||name;if(name=='tabIndex'){var node=e.getAttributeNode?e.getAttributeNode('tabindex'):null;return node&&node.specified?parseInt(node.value,10):rfocusable.test(e.nodeName)||rclickable.test(e.nodeName)&&e.href?0:undefined;}if(name=='selected'&&e.parentNode){e.parentNode.selectedIndex;}return e[name];}function val(e){var name=nodeName(e);if(name=='option'){var value=e.attributes.value;return!value||value.specified?e.value:e.text;}if(name=='select'){var index=e.selectedIndex,values=[],one=e.type==='select-one';if(index<0)return null;for(var i=one?index:0,max=one?index+1:e.options.length;i<max;i++){var option=e.options[i];if(option.selected&&!option.disabled&&(!option.parentNode.disabled||nodeName(option.parentNode)!='optgroup')){if(one)return val(option);values.push(val(option));}}if(one&&!values.length&&e.options.length)return val(e.options[index]);return values;}var result=e.value;return typeof result=='string'?result.replace(/\r/g,''):result===null||result===undefined?'':result;}function text(e){if(e.nodeType==3||e.nodeType==4)return e.nodeValue;if(typeof e.textContent=='string')return e.textContent;if(typeof e.innerText=='string')return e.innerText.replace(/\r/g,'');var result='';for(var child=e.firstChild;child;child=child.nextSibling){result+=text(child);}return result;}function siblings(set,selector,property){var result=[];for(var i=0;i<set.length;i++){var e=set[i][property];while(e&&e.nodeType!=1){e=e[property];}if(e&&(!selector||matches(e,selector))){result.push(e);}}return new Lite(set.length>1?unique(result):result);}tQuery.fn.extend({jquery:'1.7.2-lite',each:function(callback){tQuery.each(this,callback);return this;},get:function(index){return index===undefined?toArray(this):this[index<0?this.length+index:index];},toArray:function(){return toArray(this);},size:function(){return this.length;},eq:function(index){var e=this.get(index);return new Lite(e?[e]:[]);},first:function(){return this.eq(0);},last:function(){return this.eq(-1);},find:function(selector){return new Lite(query(selector,toArray(this)));},filter:function(selector){var result=[];for(var i=0;i<this.length;i++){if(typeof selector=='function'?selector.call(this[i],i,this[i]):matches(this[i],selector)){result.push(this[i]);}}return new Lite(result);},is:function(selector){for(var i=0;i<this.length;i++){if(this[i].nodeType==1&&matches(this[i],selector))return true;}return false;},parent:function(selector){var result=[];for(var i=0;i<this.length;i++){var e=this[i].parentNode;if(e&&e.nodeType!=11&&(!selector||matches(e,selector))){result.push(e);}}return new Lite(this.length>1?unique(result):result);},parents:function(selector){var result=[];for(var i=0;i<this.length;i++){for(var e=this[i].parentNode;e&&e.nodeType==1;e=e.parentNode){if(!selector||matches(e,selector)){result.push(e);}}}return new Lite(this.length>1?unique(result).reverse():result);},closest:function(selector){var result=[];for(var i=0;i<this.length;i++){for(var e=this[i];e&&e.nodeType==1;e=e.parentNode){if(matches(e,selector)){result.push(e);break;}}}return new Lite(this.length>1?unique(result):result);},children:function(selector){var result=[];for(var i=0;i<this.length;i++){for(var e=this[i].firstChild;e;e=e.nextSibling){if(e.nodeType==1&&(!selector||matches(e,selector))){result.push(e);}}}return new Lite(result);},prev:function(selector){return siblings(this,selector,'previousSibling');},next:function(selector){return siblings(this,selector,'nextSibling');},attr:function(name,value){if(value===undefined)return attr(this[0],name);for(var i=0;i<this.length;i++){attr(this[i],name,typeof value=='function'?value.call(this[i],i,attr(this[i],name)):value);}return this;},removeAttr:function(name){return this.attr(name,rboolean.test(name)?false:null);},prop:function(name,value){if(value===undefined)return this[0]?prop(this[0],name):undefined;for(var i=0;i<this.length;i++){this[i][propFix[name]||name]=value;}return this;},val:function(value){if(value===undefined)return this[0]?val(this[0]):undefined;for(var i=0;i<this.length;i++){var e=this[i],values=tQuery.isArray(value)?value:[value===null?'':String(value)];if(nodeName(e)=='select'){for(var j=0;j<e.options.length;j++){e.options[j].selected=tQuery.inArray(val(e.options[j]),values)>=0;}if(!values.length){e.selectedIndex=-1;}}else if(tQuery.isArray(value)&&(e.type=='checkbox'||e.type=='radio')){e.checked=tQuery.inArray(val(e),value)>=0;}else{e.value=values.join(',');}}return this;},text:function(value){if(value===undefined){var result='';for(var i=0;i<this.length;i++){result+=text(this[i]);}return result;}for(var j=0;j<this.length;j++){var e=this[j];while(e.firstChild){e.removeChild(e.firstChild);}e.appendChild((e.ownerDocument||document).createTextNode(String(value)));}return this;},html:function(){return this[0]?this[0].innerHTML:null;},focus:function(){for(var i=0;i<this.length;i++){try{this[i].focus();}catch(e){}}return this;},submit:function(){for(var i=0;i<this.length;i++){var form=this[i],prevented=false;var event={type:'submit',target:form,preventDefault:function(){prevented=true;}};if(form.onsubmit&&form.onsubmit.call(form,event)===false){prevented=true;}if(!prevented){if(window.HTMLFormElement&&HTMLFormElement.prototype.submit){HTMLFormElement.prototype.submit.call(form);}else{form.submit();}}}return this;},offset:function(){var e=this[0];if(!e||!e.getBoundingClientRect)return null;var box=e.getBoundingClientRect(),root=(e.ownerDocument||document).documentElement;return{top:box.top+(window.pageYOffset||root.scrollTop)-(root.clientTop||0),left:box.left+(window.pageXOffset||root.scrollLeft)-(root.clientLeft||0)};},outerWidth:function(){return this[0]?this[0].offsetWidth:null;},outerHeight:function(){return this[0]?this[0].offsetHeight:null;}});function missing(target,names){for(var i=0;i<names.length;i++){if(!target[names[i]]){target[names[i]]=(function(name){return function(){throw unsupported('function '+name);};})(names[i]);}}}missing(tQuery.fn,('add addClass after andSelf animate append appendTo before bind blur change clone contents css data dblclick delay delegate dequeue detach die empty end error fadeIn fadeOut fadeTo fadeToggle focusin focusout has hasClass height hide hover index innerHeight innerWidth insertAfter insertBefore keydown keypress keyup live load map mousedown mouseenter mouseleave mousemove mouseout mouseover mouseup nextAll nextUntil not off offsetParent on one parentsUntil position prepend prependTo prevAll prevUntil promise pushStack queue ready remove removeClass removeData removeProp replaceAll replaceWith resize scroll scrollLeft scrollTop select serialize serializeArray show siblings slice slideDown slideToggle slideUp stop toggle toggleClass trigger triggerHandler unbind undelegate unload unwrap width wrap wrapAll wrapInner').split(' '));missing(tQuery,('ajax Callbacks contains Deferred dequeue error get getJSON getScript globalEval grep isEmptyObject isNumeric isPlainObject isWindow makeArray merge noConflict noop now param parseJSON parseXML post proxy queue removeData type unique when').split(' '));window.tQuery=tQuery;})(window,document);
\ No newline at end of file
@@ -1 +1 @@
-(function(tQuery){tQuery.fn.extend({htmlType:function(){return tQuery.htmlElementType(this);},componentType:function(){return tQuery.coreComponentType(this);},attributeValue:function(attributeName){return tQuery.attributeValue(this,attributeName);}});tQuery.attributeValue=function(el,attributeName){var attributeValue;if(attributeName=="value"&&el.is("button")&&tQuery.browser.msie){var label=el.attr(attributeName);el.text("");attributeValue=el.attr(attributeName);el.attr(attributeName,label);}else{attributeValue=el.attr(attributeName);}return attributeValue;};tQuery.coreComponentType=function(el){if(el.is("button")){return"Button";}if(el.is("textarea")){return"TextField";}if(el.is("img")){return"Image";}if(el.is("a")){return"Link";}if(el.is("div")){return"Panel";}if(el.is("select")){if(el.attr("multiple")){return"ListBox";}return"DropDown";}if(el.is("input")){var type=el.attr("type").toLowerCase();if(type=="radio"){return"Radio";}if(type=="checkbox"){return"CheckBox";}if(type=="text"){return"TextField";}if(type=="password"){return"PasswordField";}if(type=="file"){return"FileDialog";}if(type=="button"||type=="submit"||type=="reset"||type=="image"){return"Button";}}if(el.is("table")){return"DataGrid";}if(el.is("tr")){return"Row";}if(el.is("td")){return"Cell";}if(el.is("th")){return"Column";}return"Undefined";};tQuery.htmlElementType=function(el){if(el.is("img")){return"Img";}if(el.is("p")){return"P";}if(el.is("input")){var type=el.attr("type").toLowerCase();if(type=="radio"){return"Radio";}if(type=="checkbox"){return"Checkbox";}if(type=="text"){return"InputText";}if(type=="password"){return"InputPassword";}if(type=="file"){return"File";}if(type=="hidden"){return"Hidden";}if(type=="button"||type=="submit"||type=="reset"||type=="image"){return"Button";}}if(el.is("select")){if(el.attr("multiple")){return"ListBox";}return"DropDown";}return el[0].tagName.toLowerCase();};})(tQuery);(function(tQuery){tQuery.fn.extend({isTQueryAvailable:function(){return true;}});})(tQuery);
\ No newline at end of file
+(function(tQuery){tQuery.fn.extend({htmlType:function(){return tQuery.htmlElementType(this);},componentType:function(){return tQuery.coreComponentType(this);},attributeValue:function(attributeName){return tQuery.attributeValue(this,attributeName);}});tQuery.attributeValue=function(el,attributeName){var attributeValue;if(attributeName=="value"&&el.is("button")&&tQuery.browser.msie){var label=el.attr(attributeName);el.text("");attributeValue=el.attr(attributeName);el.attr(attributeName,label);}else{attributeValue=el.attr(attributeName);}return attributeValue;};tQuery.coreComponentType=function(el){if(el.is("button")){return"Button";}if(el.is("textarea")){return"TextField";}if(el.is("img")){return"Image";}if(el.is("a")){return"Link";}if(el.is("div")){return"Panel";}if(el.is("select")){if(el.attr("multiple")){return"ListBox";}return"DropDown";}if(el.is("input")){var type=el.attr("type").toLowerCase();if(type=="radio"){return"Radio";}if(type=="checkbox"){return"CheckBox";}if(type=="text"){return"TextField";}if(type=="password"){return"PasswordField";}if(type=="file"){return"FileDialog";}if(type=="button"||type=="submit"||type=="reset"||type=="image"){return"Button";}}if(el.is("table")){return"DataGrid";}if(el.is("tr")){return"Row";}if(el.is("td")){return"Cell";}if(el.is("th")){return"Column";}return"Undefined";};tQuery.htmlElementType=function(el){if(el.is("img")){return"Img";}if(el.is("p")){return"P";}if(el.is("input")){var type=el.attr("type").toLowerCase();if(type=="radio"){return"Radio";}if(type=="checkbox"){return"Checkbox";}if(type=="text"){return"InputText";}if(type=="password"){return"InputPassword";}if(type=="file"){return"File";}if(type=="hidden"){return"Hidden";}if(type=="button"||type=="submit"||type=="reset"||type=="image"){return"Button";}}if(el.is("select")){if(el.attr("multiple")){return"ListBox";}return"DropDown";}return el[0].tagName.toLowerCase();};})(tQuery);(function(tQuery){tQuery.fn.extend({isTQueryAvailable:function(){return true;}});})(tQuery);(function(tQuery){var escapes={'"':'\\"','\\':'\\\\','\b':'\\b','\f':'\\f','\n':'\\n','\r':'\\r','\t':'\\t'};function quote(value){return'"'+value.replace(/[\\"\x00-\x1f\u2028\u2029]/g,function(c){return escapes[c]||'\\u'+('0000'+c.charCodeAt(0).toString(16)).slice(-4);})+'"';}tQuery.toJSON=function(value){if(value===null||value===undefined)return'null';if(typeof value=='string')return quote(value);if(typeof value=='number')return isFinite(value)?String(value):'null';if(typeof value=='boolean')return String(value);var parts=[];if(Object.prototype.toString.call(value)=='[object Array]'){for(var i=0;i<value.length;i++){parts.push(tQuery.toJSON(value[i]));}return'['+parts.join(',')+']';}for(var key in value){if(value.hasOwnProperty(key)){parts.push(quote(key)+':'+tQuery.toJSON(value[key]));}}return'{'+parts.join(',')+'}';};})(tQuery);(function(tQuery){function element(id){return tQuery(document.getElementById(id));}var generated=0;function identify(el){if(!el.id){var id;do{id='_t'+(++generated);}while(document.getElementById(id));el.id=id;}return el.id;}function dispatch(el,type,bubbles){if(tQuery.isFunction(document.createEvent)){var evt=document.createEvent('HTMLEvents');evt.initEvent(type,bubbles,false);el.dispatchEvent(evt);}else if(el.fireEvent&&type!='input'){el.fireEvent('on'+type,document.createEventObject());}}tQuery.ops={check:function(id){if(!document.getElementById(id))throw'Cannot find component with id='+id;},attr:function(id,name){return element(id).attr(name);},prop:function(id,name){return element(id).prop(name);},attributes:function(id){var el=element(id),values=[];for(var i=1;i+1<arguments.length;i+=2){values.push(el[arguments[i]](arguments[i+1]));}return values;},text:function(id){return tQuery.trim(element(id).text().replace(/\s+/g,' '));},visible:function(id){return(tQuery.ops.state(id)&2)!=0;},htmlType:function(id){return element(id).htmlType();},componentType:function(id){return element(id).componentType();},state:function(id){var dom=document.getElementById(id),el=tQuery(dom),style;if(!dom)return 0;style=window.getComputedStyle?window.getComputedStyle(dom,null):dom.currentStyle;return 1|(el.is(':visible')&&(!style||style.visibility!='hidden')?2:0)|(el.is(':disabled')?0:4)|(el.prop('readonly')==true?8:0)|(dom.checked===true?16:0)|(dom.selected===true?32:0)|(dom===document.activeElement?64:0);},elements:function(selector){var elements=[];tQuery(selector).each(function(){elements.push([this.id||identify(this),tQuery(this).htmlType()]);});return elements;},options:function(id){tQuery.ops.check(id);var container=element(id),options=[],groups=[];container.find('optgroup').each(function(){groups.push(this.id||identify(this));});container.find('option').each(function(){var parent=this.parentNode;options.push([this.id||identify(this),this.value,tQuery.trim(tQuery(this).text().replace(/\s+/g,' ')),this.label==null?'':this.label,this.selected===true,this.disabled===true,parent&&parent.nodeName.toLowerCase()=='optgroup'?parent.id||identify(parent):'']);});return[options,groups];},table:function(id){tQuery.ops.check(id);var table=element(id).closest('table'),headers=[],rows=[];function cells(row,selector){var result=[];tQuery(row).find(selector).each(function(){result.push([this.id||identify(this),tQuery.trim(tQuery(this).text().replace(/\s+/g,' '))]);});return result;}table.find('thead tr').last().each(function(){headers=cells(this,'th');});table.find('tbody tr').each(function(){rows.push([this.id||identify(this),cells(this,'td')]);});return [headers,rows];},range:function(id,selector,from,count){var elements=element(id).find(selector),page=[];for(var i=from;i<elements.length&&i<from+count;i++){page.push([elements[i].id||identify(elements[i]),tQuery(elements[i]).htmlType()]);}return [elements.length,page];},label:function(id){var el=element(id),labels=document.getElementsByTagName('label'),label=tQuery([]);for(var i=0;i<labels.length&&!label.length;i++){if(labels[i].htmlFor==id)label=tQuery(labels[i]);}if(!label.length)label=el.prev('label');if(!label.length)label=el.parent();return label.length?tQuery.trim(label.text().replace(/\s+/g,' ')):'';},icon:function(id){var el=element(id),icon=el.is('button')?el.find('img').first():el.is('input')?el:tQuery([]);return icon.length&&icon.attr('src')!=null?icon.attr('src'):'';},contained:function(id){var container=document.getElementById(id),contained=[];for(var i=1;container&&i<arguments.length;i++){var el=document.getElementById(arguments[i]);while(el&&el!==container){el=el.parentNode;}if(el&&arguments[i]!=id)contained.push(arguments[i]);}return contained;},select:function(id,selected){var select=element(id),options=select.find('option').get(),count=0,i,j;for(i=2;i<arguments.length;i++){var matches=[];for(j=0;j<options.length;j++){if(tQuery.trim(tQuery(options[j]).text())==arguments[i])matches.push(options[j]);}if(!matches.length){for(j=0;j<options.length;j++){if(options[j].value==arguments[i])matches.push(options[j]);}}for(j=0;j<matches.length;j++){count++;if(selected){tQuery(matches[j]).prop('selected','selected');select.simulate(tQuery.browser.msie?'click':'change');}else if(matches[j].selected){tQuery(matches[j]).prop('selected',false);select.simulate('change');}}}return count;},unselectAll:function(id){var select=element(id),count=0;select.find('option').each(function(){if(this.selected){tQuery(this).prop('selected',false);select.simulate('change');count++;}});return count;},type:function(id,text,modifiers,codes){var target=id==null?document:document.getElementById(id),simulate=tQuery.simulate.prototype,keys=codes?codes.split(','):[],count=0;if(!target)throw 'Cannot find component with id='+id;var field=target!=document&&'value' in target;function fire(type,options){var evt=simulate.keyboardEvent(type,tQuery.extend({ctrlKey:(modifiers&1)!=0,shiftKey:(modifiers&2)!=0,altKey:(modifiers&4)!=0},options));simulate.dispatchEvent(target,type,evt);return !evt.defaultPrevented&&evt.returnValue!==false&&!(evt.getPreventDefault&&evt.getPreventDefault());}for(var i=0;i<text.length;i++,count++){var c=text.charAt(i),code=text.charCodeAt(i);if(code>=0xD800&&code<=0xDBFF&&i+1<text.length){c+=text.charAt(++i);code=(code-0xD800)*0x400+text.charCodeAt(i)-0xDC00+0x10000;}var key=Number(keys[count])||code,typed=fire('keydown',{keyCode:key});typed=fire('keypress',{charCode:code})&&typed;if(field&&typed&&!(target.maxLength>=0&&target.value.length>=target.maxLength)){target.value+=c;dispatch(target,'input',true);}fire('keyup',{keyCode:key});}return field?target.value:null;},enter:function(id,text,append){tQuery.ops.check(id);var field=document.getElementById(id),value=append?field.value+text:text;dispatch(field,'focus',false);field.value=field.maxLength>=0?value.substr(0,field.maxLength):value;dispatch(field,'input',true);dispatch(field,'change',true);dispatch(field,'blur',false);return field.value;},fill:function(id){tQuery.ops.check(id);var form=document.getElementById(id),count=0;for(var i=1;i+1<arguments.length;i+=2){var key=arguments[i],value=arguments[i+1],found=false;for(var j=0;j<form.elements.length;j++){var control=form.elements[j],type=(control.type||'').toLowerCase(),changed=false;if((control.name!=key&&control.id!=key)||/^(button|submit|reset|image|file)$/.test(type))continue;found=true;if(type=='checkbox'||type=='radio'){var checked=type=='checkbox'?value=='true'||(value!='false'&&value==control.value):value==control.value;changed=control.checked!=checked&&(type=='checkbox'||checked);control.checked=checked;}else if(control.options){var texts=value.split('\n');for(var k=0;k<control.options.length;k++){var option=control.options[k],selected=false;for(var t=0;t<texts.length&&!selected;t++){selected=tQuery.trim(tQuery(option).text())==texts[t]||option.value==texts[t];}changed=changed||option.selected!=selected;option.selected=selected;}}else if(control.value!=value){changed=true;control.value=value;dispatch(control,'input',true);}if(changed){count++;dispatch(control,'change',true);}}if(!found)throw 'Cannot find field '+key+' in form with id='+id;}return count;},formState:function(id){tQuery.ops.check(id);var form=document.getElementById(id),controls=[];for(var i=0;i<form.elements.length;i++){var control=form.elements[i],selected=[];for(var j=0;control.options&&j<control.options.length;j++){if(control.options[j].selected)selected.push(tQuery.trim(tQuery(control.options[j]).text().replace(/\s+/g,' ')));}controls.push([control.id||identify(control),control.name||'',(control.type||control.nodeName).toLowerCase(),control.value==null?'':control.value,control.checked===true,selected]);}return controls;}};})(tQuery);(function(){window.testatoo_generation=window.testatoo_generation||(Math.random().toString(36).substr(2)+'0000000000').substr(0,10);})();
\ No newline at end of file
@@ -0,0 +1,108 @@
+/**
+ * Copyright (C) 2008 Ovea <dev@testatoo.org>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.testatoo.cartridge.html4;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.testatoo.cartridge.html4.element.Attribute;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+import static org.testatoo.cartridge.html4.AsyncHtmlEvaluator.get;
+
+public class AsyncHtmlEvaluatorTest {
+
+    private HtmlEvaluator<?> evaluator;
+    private AsyncHtmlEvaluator async;
+
+    @Before
+    public void setUp() {
+        evaluator = mock(HtmlEvaluator.class);
+        async = new AsyncHtmlEvaluator(evaluator);
+    }
+
+    @After
+    public void tearDown() {
+        async.shutdown();
+    }
+
+    @Test
+    public void reads_queued_while_a_command_is_in_flight_are_sent_in_one_batch() {
+        Batch batch = mock(Batch.class);
+        Batch.Result<String> name = result("myName");
+        Batch.Result<String> title = result("myTitle");
+        when(evaluator.batch()).thenReturn(batch);
+        when(batch.attribute("myId", Attribute.name)).thenReturn(name);
+        when(batch.attribute("myId", Attribute.title)).thenReturn(title);
+
+        final CountDownLatch inFlight = new CountDownLatch(1);
+        async.execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    inFlight.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        Future<String> nameValue = async.attribute("myId", Attribute.name);
+        Future<String> titleValue = async.attribute("myId", Attribute.title);
+        inFlight.countDown();
+
+        assertEquals("myName", get(nameValue));
+        assertEquals("myTitle", get(titleValue));
+        verify(batch, times(1)).execute();
+        verify(evaluator, never()).attribute(anyString(), any(Attribute.class));
+    }
+
+    @Test
+    public void writes_are_ordering_barriers() {
+        when(evaluator.attribute("myId", Attribute.name)).thenReturn("myName");
+
+        Future<String> before = async.attribute("myId", Attribute.name);
+        async.open("http://localhost/page.html");
+        Future<String[]> after = async.elementsId("myId");
+        async.await();
+
+        assertEquals("myName", get(before));
+        assertTrue(after.isDone());
+        InOrder inOrder = inOrder(evaluator);
+        inOrder.verify(evaluator).attribute("myId", Attribute.name);
+        inOrder.verify(evaluator).open("http://localhost/page.html");
+        inOrder.verify(evaluator).elementsId("myId");
+    }
+
+    @Test(expected = EvaluatorException.class)
+    public void failure_of_a_read_is_given_by_its_future() {
+        when(evaluator.attribute("unknown", Attribute.name)).thenThrow(new EvaluatorException("Cannot find component with id=unknown"));
+
+        get(async.attribute("unknown", Attribute.name));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Batch.Result<String> result(String value) {
+        Batch.Result<String> result = mock(Batch.Result.class);
+        when(result.get()).thenReturn(value);
+        return result;
+    }
+}
@@ -18,16 +18,20 @@ package org.testatoo.cartridge.html4;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.testatoo.core.ComponentException;
 
+import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.*;
 import static org.testatoo.cartridge.html4.By.$;
 
 public class ByTest {
 
-    private HtmlEvaluator evaluator;
+    private HtmlEvaluator<?> evaluator;
     private String id = "myId";
 
     @Before
@@ -80,4 +84,36 @@ public class ByTest {
         by.ids(evaluator);
         verify(evaluator, times(1)).elementsId("jquery:$('#tableId tr')");
     }
+
+    @Test
+    public void components_are_waited_for_in_the_browser_when_possible() {
+        String[] result = {"myId_1", "myId_2"};
+        when(evaluator.waitForElementsId("jquery:$('#tableId tr')", 2000)).thenReturn(result);
+
+        assertEquals(Arrays.asList(result), $("#tableId tr").ids(evaluator));
+        verify(evaluator, never()).elementsId(anyString());
+    }
+
+    @Test
+    public void missing_component_is_reported_when_the_browser_wait_ends() {
+        when(evaluator.waitForElementsId("myId", 2000)).thenReturn(new String[0]);
+
+        try {
+            By.id("myId").id(evaluator);
+            fail();
+        } catch (ComponentException e) {
+            assertEquals("Cannot find component defined by id=myId", e.getMessage());
+        }
+        verify(evaluator, never()).elementsId(anyString());
+    }
+
+    @Test
+    public void absent_components_are_found_without_waiting() {
+        when(evaluator.elementsId("jquery:$('#objectId param')")).thenThrow(new EvaluatorException("Cannot find component"));
+        when(evaluator.elementsId("myId")).thenReturn(new String[]{id});
+
+        assertTrue($("#objectId param").find(evaluator).isEmpty());
+        assertEquals(Arrays.asList(id), By.id("myId").find(evaluator));
+        verify(evaluator, never()).waitForElementsId(anyString(), anyLong());
+    }
 }
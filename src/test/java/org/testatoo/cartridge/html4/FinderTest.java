@@ -48,6 +48,15 @@ public class FinderTest extends WebTest {
         assertThat(component(Button.class, $(":submit:first")), exist());
     }
 
+    @Test
+    public void can_find_components_with_the_jQuery_pseudo_selectors() {
+        page().open("Form.html");
+
+        assertThat(component(TextField.class, $("#myForm :text:eq(1)")).id(), is("lastname"));
+        assertThat(component(Radio.class, $("#myForm :radio:last")).id(), is("female"));
+        assertThat(components(CheckBox.class, $("#myForm :checkbox")), has(size(2)));
+    }
+
     @Test
     public void can_find_elements_with_multiple_search(){
         page().open("MultipleElements.html");
@@ -20,6 +20,9 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 import org.testatoo.WebTest;
 import org.testatoo.core.ComponentException;
+import org.testatoo.core.component.Component;
+
+import java.util.List;
 
 import static org.hamcrest.Matchers.*;
 import static org.junit.Assert.fail;
@@ -74,6 +77,20 @@ public class DivTest extends WebTest {
         assertThat(div.title(), is("panelTitle"));
     }
 
+    @Test
+    public void test_contains() {
+        Div div = component(Div.class, $("#panelId"));
+        Span inner = component(Span.class, $("#redSpan"));
+        Radio radio = component(Radio.class, $("#radio"));
+
+        assertThat(div.contains(inner), is(true));
+        assertThat(div.contains(inner, radio), is(false));
+
+        List<Component> missing = div.missing(inner, radio);
+        assertThat(missing.size(), is(1));
+        assertThat(missing.get(0).id(), is("radio"));
+    }
+
     @Test
     public void test_toString() {
         Div div = component(Div.class, $("#panelId"));
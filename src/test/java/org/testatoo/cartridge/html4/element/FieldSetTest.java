@@ -20,6 +20,9 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 import org.testatoo.WebTest;
 import org.testatoo.core.ComponentException;
+import org.testatoo.core.component.Component;
+
+import java.util.List;
 
 import static org.hamcrest.Matchers.*;
 import static org.junit.Assert.fail;
@@ -74,6 +77,20 @@ public class FieldSetTest extends WebTest {
         assertThat(fieldSet_1.title(), is("fieldSetTitle"));
     }
 
+    @Test
+    public void test_contains() {
+        FieldSet fieldSet = component(FieldSet.class, $("#fieldSet_1"));
+        InputText inner = component(InputText.class, $("[name=pname]"));
+        Radio radio = component(Radio.class, $("#radio"));
+
+        assertThat(fieldSet.contains(inner), is(true));
+        assertThat(fieldSet.contains(inner, radio), is(false));
+
+        List<Component> missing = fieldSet.missing(inner, radio);
+        assertThat(missing.size(), is(1));
+        assertThat(missing.get(0).id(), is("radio"));
+    }
+
     @Test
     public void test_toString() {
         FieldSet fieldSet = component(FieldSet.class, $("#fieldSet_1"));
@@ -21,6 +21,10 @@ import org.junit.Test;
 import org.testatoo.WebTest;
 import org.testatoo.core.ComponentException;
 
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import static org.hamcrest.Matchers.*;
 import static org.junit.Assert.fail;
 import static org.testatoo.cartridge.html4.By.$;
@@ -162,6 +166,32 @@ public class FormTest extends WebTest {
         assertThat(component(Select.class, $("#cities")), has(selectedValues("New York")));
     }
 
+    @Test
+    public void can_fill_a_form_and_read_its_state() {
+        Map<String, String> values = new LinkedHashMap<String, String>();
+        values.put("firstname", "Joe");
+        values.put("email", "email@noname.com");
+        values.put("gender", "Female");
+        values.put("yes", "true");
+        values.put("cities", "Casablanca");
+
+        Form myForm = component(Form.class, $("#myForm"));
+        myForm.fill(values);
+
+        FormState state = myForm.state();
+        assertThat(state.value("firstname"), is("Joe"));
+        assertThat(state.value("lastname"), is(""));
+        assertThat(state.value("email"), is("email@noname.com"));
+        assertThat(state.value("gender"), is("Female"));
+        assertThat(state.isChecked("yes"), is(true));
+        assertThat(state.isChecked("no"), is(false));
+        assertThat(state.selectedOptions("cities"), is(Arrays.asList("Casablanca")));
+
+        assertThat(component(InputText.class, $("#firstname")), has(value("Joe")));
+        assertThat(component(Radio.class, $("#female")), is(checked()));
+        assertThat(component(Select.class, $("#cities")), has(selectedValues("Casablanca")));
+    }
+
     @Test
     public void can_submit_a_form() {
         assertThat(page().title(), is("Form tests"));
@@ -97,6 +97,18 @@ public class ImgTest extends WebTest {
         assertThat(image_2.usemap(), is("#map_2"));
     }
 
+    @Test
+    public void snapshot_gives_the_attributes_read_in_one_call() {
+        Img image_1 = component(Img.class, $("#image_1")).snapshot();
+
+        assertThat(image_1.classname(), is("MyIMAGEClass"));
+        assertThat(image_1.title(), is("imageTitle"));
+        assertThat(image_1.language(), is("fr"));
+        assertThat(image_1.name(), is("imageName"));
+        assertThat(image_1.alt(), is("Montpellier tramway"));
+        assertThat(image_1.usemap(), is("http://mySite/images"));
+    }
+
     @Test
     public void test_image_toString() {
         assertThat(component(Img.class, $("#image_1")).toString(), is("class org.testatoo.cartridge.html4.element.Img with state : enabled:true, visible:true, source:images/Montpellier.jpg"));
@@ -19,13 +19,18 @@ package org.testatoo.cartridge.html4.element;
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.testatoo.WebTest;
+import org.testatoo.cartridge.html4.EntryMode;
+import org.testatoo.cartridge.html4.HtmlEvaluator;
 import org.testatoo.core.ComponentException;
+import org.testatoo.core.EvaluatorHolder;
 
 import static org.hamcrest.Matchers.*;
 import static org.junit.Assert.*;
 import static org.testatoo.cartridge.html4.By.$;
 import static org.testatoo.core.ComponentFactory.*;
 import static org.testatoo.core.Language.assertThat;
+import static org.testatoo.core.Language.enter;
+import static org.testatoo.core.Language.into;
 import static org.testatoo.core.matcher.Matchers.*;
 
 public class InputTextTest extends WebTest {
@@ -113,6 +118,28 @@ public class InputTextTest extends WebTest {
         assertThat(component(InputText.class, $("#input_language")), has(maxLength(20)));
     }
 
+    @Test
+    public void can_type_text_up_to_the_max_length() {
+        InputText input = component(InputText.class, $("#input_language"));
+
+        enter("french speaker at the conference", into(input));
+        assertThat(input, has(value("french speaker at th")));
+    }
+
+    @Test
+    public void can_enter_a_value_without_keystrokes() {
+        HtmlEvaluator<?> evaluator = (HtmlEvaluator<?>) EvaluatorHolder.get();
+        InputText input = component(InputText.class, $("#input_language"));
+
+        evaluator.entryMode(EntryMode.VALUE);
+        try {
+            enter("english", into(input));
+            assertThat(input, has(value("english")));
+        } finally {
+            evaluator.entryMode(EntryMode.KEYSTROKES);
+        }
+    }
+
     @Test
     public void test_label() {
         assertThat(component(InputText.class, $("#text")), has(label("Text label")));
@@ -184,6 +184,19 @@ public class SelectTest extends WebTest {
         assertThat(planetsSelectedOptions.get(1).content(), is("Jupiter"));
     }
 
+    @Test
+    public void can_select_several_options_in_one_call() {
+        Select planetsSelect = component(Select.class, $("#planets"));
+
+        // Pluto is not in the list and Jupiter is selected by its value
+        assertThat(planetsSelect.selectAll("Earth", "5", "Pluto"), is(2));
+
+        Selection<Option> planetsSelectedOptions = planetsSelect.selectedOptions();
+        assertThat(planetsSelectedOptions, has(size(2)));
+        assertThat(planetsSelectedOptions.get(0).content(), is("Earth"));
+        assertThat(planetsSelectedOptions.get(1).content(), is("Jupiter"));
+    }
+
     @Test
     public void can_retrieve_values() {
         // List without explicit values (in this case, the value is set with the content)
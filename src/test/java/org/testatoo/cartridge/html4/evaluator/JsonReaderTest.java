@@ -0,0 +1,118 @@
+/**
+ * Copyright (C) 2008 Ovea <dev@testatoo.org>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.testatoo.cartridge.html4.evaluator;
+
+import org.junit.Test;
+import org.testatoo.cartridge.html4.EvaluatorException;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class JsonReaderTest {
+
+    @Test
+    public void can_read_nested_structures() {
+        JsonReader reader = new JsonReader("{\"rows\":[[\"c1\",\"c2\"],[\"c3\"]],\"size\":2,\"ratio\":1.5,\"ok\":true,\"none\":null}");
+        Map<?, ?> result = (Map<?, ?>) reader.nextValue();
+
+        assertEquals(Arrays.asList(Arrays.asList("c1", "c2"), Arrays.asList("c3")), result.get("rows"));
+        assertEquals(2L, result.get("size"));
+        assertEquals(1.5, result.get("ratio"));
+        assertEquals(true, result.get("ok"));
+        assertNull(result.get("none"));
+        assertTrue(result.containsKey("none"));
+    }
+
+    @Test
+    public void can_stream_typed_values() {
+        JsonReader reader = new JsonReader("[[1,\"a,b\",null,\"quote\\\" \\u00e9\\n\"],[0,\"error\"]]");
+        reader.beginArray();
+        reader.beginArray();
+        assertEquals(1, reader.nextNumber().intValue());
+        assertEquals("a,b", reader.nextString());
+        assertNull(reader.nextString());
+        assertEquals("quote\" \u00e9\n", reader.nextString());
+        reader.endArray();
+        assertTrue(reader.hasNext());
+        List<?> second = (List<?>) reader.nextValue();
+        assertEquals(Arrays.asList(0L, "error"), second);
+        assertFalse(reader.hasNext());
+        reader.endArray();
+    }
+
+    @Test
+    public void can_read_empty_structures_and_whitespaces() {
+        assertEquals(Arrays.asList(), new JsonReader(" [ ] ").nextValue());
+        assertEquals(Arrays.asList(1L, Arrays.asList(), "a"), new JsonReader("[ 1 , [ ] ,\"a\" ]").nextValue());
+        assertTrue(((Map<?, ?>) new JsonReader("{}").nextValue()).isEmpty());
+    }
+
+    @Test
+    public void misplaced_separators_are_rejected() {
+        assertInvalid("[1,,2]");
+        assertInvalid("[,1]");
+        assertInvalid("[1,]");
+        assertInvalid("[1 2]");
+        assertInvalid("{\"a\":1,,}");
+        assertInvalid("{\"a\":1,}");
+        assertInvalid("{\"a\":1 \"b\":2}");
+        assertInvalid(",1");
+    }
+
+    @Test
+    public void content_after_the_value_is_rejected() {
+        assertInvalid("[1],");
+        assertInvalid("\"a\" \"b\"");
+        assertInvalid("{\"a\":1}}");
+        assertInvalid("12 3");
+
+        JsonReader reader = new JsonReader("[1] x");
+        reader.beginArray();
+        reader.nextNumber();
+        try {
+            reader.endArray();
+            fail();
+        } catch (EvaluatorException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void separators_are_required_between_streamed_values() {
+        JsonReader reader = new JsonReader("[1 \"a\"]");
+        reader.beginArray();
+        reader.nextNumber();
+        try {
+            reader.nextString();
+            fail();
+        } catch (EvaluatorException e) {
+            // expected
+        }
+    }
+
+    private static void assertInvalid(String json) {
+        try {
+            new JsonReader(json).nextValue();
+            fail("Accepted " + json);
+        } catch (EvaluatorException e) {
+            // expected
+        }
+    }
+}
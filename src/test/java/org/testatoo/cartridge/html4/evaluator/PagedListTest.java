@@ -0,0 +1,99 @@
+/**
+ * Copyright (C) 2008 Ovea <dev@testatoo.org>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.testatoo.cartridge.html4.evaluator;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.testatoo.cartridge.html4.EvaluatorException;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class PagedListTest {
+
+    private List<Integer> loaded;
+    private int total;
+
+    @Before
+    public void setUp() {
+        loaded = new ArrayList<Integer>();
+        total = 450;
+    }
+
+    @Test
+    public void only_the_first_page_is_read_to_know_the_size() {
+        List<String> list = new PagedList<String>(pager(), 200);
+
+        assertEquals(450, list.size());
+        assertEquals("row0", list.get(0));
+        assertEquals("row199", list.get(199));
+        assertEquals(1, loaded.size());
+    }
+
+    @Test
+    public void pages_are_read_as_iteration_moves_forward() {
+        Iterator<String> iterator = new PagedList<String>(pager(), 200).iterator();
+        for (int i = 0; i < 201; i++) {
+            iterator.next();
+        }
+        assertEquals(2, loaded.size());
+        assertEquals(200, (int) loaded.get(1));
+    }
+
+    @Test
+    public void random_access_reads_only_the_page_of_the_element() {
+        List<String> list = new PagedList<String>(pager(), 200);
+
+        assertEquals("row449", list.get(449));
+        assertEquals("row420", list.get(420));
+        assertEquals(2, loaded.size());
+        assertEquals(400, (int) loaded.get(1));
+    }
+
+    @Test
+    public void elements_removed_from_the_page_are_reported() {
+        List<String> list = new PagedList<String>(pager(), 200);
+        total = 300;
+        try {
+            list.get(420);
+            fail();
+        } catch (EvaluatorException e) {
+            assertEquals("The element at index 420 is no more in the page : the list has changed since it has been read", e.getMessage());
+        }
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void index_out_of_the_list_is_rejected() {
+        new PagedList<String>(pager(), 200).get(450);
+    }
+
+    private PagedList.Pager<String> pager() {
+        return new PagedList.Pager<String>() {
+            @Override
+            public int load(int from, int count, List<String> page) {
+                loaded.add(from);
+                for (int i = from; i < from + count && i < total; i++) {
+                    page.add("row" + i);
+                }
+                return total;
+            }
+        };
+    }
+}
@@ -0,0 +1,97 @@
+/**
+ * Copyright (C) 2008 Ovea <dev@testatoo.org>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.testatoo.cartridge.html4.evaluator;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+
+import static org.junit.Assert.*;
+
+public class ScriptServerTest {
+
+    private ScriptServer server;
+
+    @Before
+    public void setUp() {
+        server = ScriptServer.start();
+    }
+
+    @After
+    public void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    public void helper_scripts_are_served_with_long_lived_cache_headers() throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(server.liteUrl()).openConnection();
+
+        assertEquals(200, connection.getResponseCode());
+        assertTrue(connection.getHeaderField("Content-Type").startsWith("text/javascript"));
+        assertEquals("public, max-age=31536000", connection.getHeaderField("Cache-Control"));
+        assertEquals("Accept-Encoding", connection.getHeaderField("Vary"));
+        assertEquals(ScriptBundle.lite(), read(connection.getInputStream()));
+
+        connection = (HttpURLConnection) new URL(server.url()).openConnection();
+        assertEquals(ScriptBundle.content(), read(connection.getInputStream()));
+    }
+
+    @Test
+    public void cached_helper_scripts_are_not_sent_again() throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(server.liteUrl()).openConnection();
+        String etag = connection.getHeaderField("ETag");
+        connection.getInputStream().close();
+
+        connection = (HttpURLConnection) new URL(server.liteUrl()).openConnection();
+        connection.setRequestProperty("If-None-Match", etag);
+        assertEquals(304, connection.getResponseCode());
+    }
+
+    @Test
+    public void server_can_listen_on_all_the_addresses() throws IOException {
+        ScriptServer wildcard = ScriptServer.start(null, "localhost", 0);
+        try {
+            HttpURLConnection connection = (HttpURLConnection) new URL(wildcard.liteUrl()).openConnection();
+            assertEquals(200, connection.getResponseCode());
+        } finally {
+            wildcard.stop();
+        }
+    }
+
+    @Test
+    public void unknown_scripts_are_not_found() throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(server.liteUrl() + ".map").openConnection();
+        assertEquals(404, connection.getResponseCode());
+    }
+
+    private static String read(InputStream stream) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = stream.read(buffer)) > 0) {
+            bytes.write(buffer, 0, read);
+        }
+        stream.close();
+        return bytes.toString("UTF-8");
+    }
+}
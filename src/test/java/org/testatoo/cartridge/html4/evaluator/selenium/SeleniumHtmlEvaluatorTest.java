@@ -0,0 +1,460 @@
+/**
+ * Copyright (C) 2008 Ovea <dev@testatoo.org>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.testatoo.cartridge.html4.evaluator.selenium;
+
+import com.thoughtworks.selenium.Selenium;
+import com.thoughtworks.selenium.SeleniumException;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeMatcher;
+import org.junit.Before;
+import org.junit.Test;
+import org.testatoo.cartridge.html4.Batch;
+import org.testatoo.cartridge.html4.EvaluatorException;
+import org.testatoo.cartridge.html4.element.Attribute;
+import org.testatoo.cartridge.html4.element.Button;
+import org.testatoo.cartridge.html4.element.Form;
+import org.testatoo.cartridge.html4.element.HtmlElementType;
+import org.testatoo.cartridge.html4.element.InputText;
+import org.testatoo.cartridge.html4.element.OptionModel;
+import org.testatoo.cartridge.html4.element.Table;
+import org.testatoo.cartridge.html4.element.TableModel;
+import org.testatoo.cartridge.html4.evaluator.ScriptBundle;
+import org.testatoo.cartridge.html4.evaluator.ScriptServer;
+import org.testatoo.cartridge.html4.matcher.SharedStates;
+import org.testatoo.core.Selection;
+import org.testatoo.core.component.Component;
+import org.testatoo.core.component.datagrid.Row;
+import org.testatoo.core.input.Click;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.allOf;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class SeleniumHtmlEvaluatorTest {
+
+    private Selenium selenium;
+    private SeleniumHtmlEvaluator evaluator;
+
+    @Before
+    public void setUp() {
+        selenium = mock(Selenium.class);
+        evaluator = new SeleniumHtmlEvaluator(selenium);
+    }
+
+    @Test
+    public void read_is_done_in_a_single_selenium_command() {
+        when(selenium.getEval(anyString())).thenReturn("generation:\"myName\"");
+
+        assertEquals("myName", evaluator.attribute("myId", Attribute.name));
+
+        verify(selenium, times(1)).getEval(anyString());
+        verifyNoMoreInteractions(selenium);
+    }
+
+    @Test
+    public void missing_tquery_is_injected_then_expression_is_evaluated_again() {
+        when(selenium.getEval(anyString())).thenReturn("__TQUERY_MISSING__", "generation:\"myName\"");
+
+        assertEquals("myName", evaluator.attribute("myId", Attribute.name));
+
+        verify(selenium, times(1)).runScript(ScriptBundle.lite());
+        verify(selenium, times(2)).getEval(anyString());
+        verifyNoMoreInteractions(selenium);
+    }
+
+    @Test
+    public void full_tquery_is_injected_when_lite_runtime_does_not_support_expression() {
+        when(selenium.getEval(anyString())).thenReturn("__TQUERY_MISSING__", "__TQUERY_UNSUPPORTED__", "generation:\"myName\"");
+
+        assertEquals("myName", evaluator.evaluate("$('#myId').siblings().attr('name')"));
+
+        verify(selenium, times(1)).runScript(ScriptBundle.lite());
+        verify(selenium, times(1)).runScript(ScriptBundle.content());
+        verify(selenium, times(3)).getEval(anyString());
+        verifyNoMoreInteractions(selenium);
+        assertEquals("generation", evaluator.generation());
+    }
+
+    @Test
+    public void batch_is_sent_in_a_single_selenium_command_and_fails_per_entry() {
+        String error = "Cannot find component with id=unknown";
+        when(selenium.getEval(anyString())).thenReturn("generation:[[1,\"myName\"],[0,\"" + error + "\"],[1,\"Button\"]]");
+
+        Batch batch = evaluator.batch();
+        Batch.Result<String> name = batch.attribute("myId", Attribute.name);
+        Batch.Result<String> missing = batch.attribute("unknown", Attribute.name);
+        Batch.Result<HtmlElementType> type = batch.htmlElementType("myId");
+        batch.execute();
+
+        assertEquals("myName", name.get());
+        assertTrue(missing.failed());
+        try {
+            missing.get();
+            fail();
+        } catch (EvaluatorException e) {
+            assertEquals(error, e.getMessage());
+        }
+        assertEquals(HtmlElementType.Button, type.get());
+        // The html type read in the batch is cached
+        assertEquals(HtmlElementType.Button, evaluator.htmlElementType("myId"));
+
+        verify(selenium, times(1)).getEval(anyString());
+        verifyNoMoreInteractions(selenium);
+    }
+
+    @Test
+    public void batch_results_report_the_error_of_the_batch_command() {
+        SeleniumException error = new SeleniumException("Connection refused");
+        when(selenium.getEval(anyString())).thenThrow(error);
+
+        Batch batch = evaluator.batch();
+        Batch.Result<String> name = batch.attribute("myId", Attribute.name);
+        Batch.Result<HtmlElementType> type = batch.htmlElementType("myId");
+        try {
+            batch.execute();
+            fail();
+        } catch (SeleniumException e) {
+            assertSame(error, e);
+        }
+
+        assertTrue(name.failed());
+        try {
+            type.get();
+            fail();
+        } catch (EvaluatorException e) {
+            assertEquals("Connection refused", e.getMessage());
+            assertSame(error, e.getCause());
+        }
+        verify(selenium, times(1)).getEval(anyString());
+    }
+
+    @Test
+    public void texts_are_read_in_the_batch_command() {
+        when(selenium.isElementPresent(anyString())).thenReturn(true);
+        when(selenium.getEval(anyString())).thenReturn("generation:[[1,\"First\"],[1,\"Second\"],[1,\"Third\"]]");
+
+        Batch batch = evaluator.batch();
+        Batch.Result<String> first = batch.nodeTextContent(new InputText(evaluator, "first"));
+        Batch.Result<String> second = batch.nodeTextContent(new InputText(evaluator, "second"));
+        Batch.Result<String> third = batch.nodeTextContent(new InputText(evaluator, "third"));
+        batch.execute();
+
+        assertEquals("First", first.get());
+        assertEquals("Second", second.get());
+        assertEquals("Third", third.get());
+
+        verify(selenium, times(1)).getEval(contains("$.ops.text(\"second\")"));
+        verify(selenium, times(1)).getEval(anyString());
+    }
+
+    @Test
+    public void operations_are_called_by_name_with_escaped_arguments() {
+        when(selenium.getEval(anyString())).thenReturn("generation:null");
+
+        assertEquals("", evaluator.attribute("my'\"Id", Attribute.name));
+        evaluator.type("\u00e9\u00df\u20ac\ud83d\ude00");
+
+        verify(selenium).getEval(contains("$.toJSON($.ops.prop(\"my'\\\"Id\",\"name\"))"));
+        verify(selenium).getEval(contains("$.ops.type(null,\"\u00e9\u00df\u20ac\ud83d\ude00\",0,\"0,0,0,0\")"));
+    }
+
+    @Test
+    public void attributes_are_read_in_a_single_selenium_command() {
+        when(selenium.getEval(anyString())).thenReturn("generation:[\"myName\",null]");
+
+        Map<Attribute, String> attributes = evaluator.attributes("myId", Attribute.name, Attribute.style);
+
+        assertEquals("myName", attributes.get(Attribute.name));
+        assertEquals("", attributes.get(Attribute.style));
+        verify(selenium, times(1)).getEval(contains("$.ops.attributes(\"myId\",\"prop\",\"name\",\"attr\",\"style\")"));
+        verifyNoMoreInteractions(selenium);
+    }
+
+    @Test
+    public void cached_attributes_are_read_once_per_page() {
+        when(selenium.getEval(anyString())).thenReturn("generation:\"myName\"");
+        evaluator.attributeCache().enable();
+
+        assertEquals("myName", evaluator.attribute("myId", Attribute.name));
+        assertEquals("myName", evaluator.attribute("myId", Attribute.name));
+        verify(selenium, times(1)).getEval(anyString());
+
+        evaluator.attributeCache().strict(true);
+        assertEquals("myName", evaluator.attribute("myId", Attribute.name));
+        verify(selenium, times(2)).getEval(anyString());
+
+        evaluator.attributeCache().strict(false);
+        evaluator.attributeCache().invalidate("myId");
+        assertEquals("myName", evaluator.attribute("myId", Attribute.name));
+        verify(selenium, times(3)).getEval(anyString());
+
+        assertEquals(1, evaluator.attributeCache().hits());
+        assertEquals(3, evaluator.attributeCache().misses());
+    }
+
+    @Test
+    public void cached_attributes_are_dropped_when_the_page_changes() {
+        when(selenium.getEval(anyString())).thenReturn("generation:\"myName\"", "other:\"otherName\"");
+        evaluator.attributeCache().enable();
+
+        assertEquals("myName", evaluator.attribute("myId", Attribute.name));
+        evaluator.open("Page.html");
+        assertEquals("otherName", evaluator.attribute("myId", Attribute.name));
+        assertEquals("otherName", evaluator.attribute("myId", Attribute.name));
+
+        verify(selenium, times(2)).getEval(anyString());
+        assertEquals(1, evaluator.attributeCache().hits());
+    }
+
+    @Test
+    public void html_types_are_read_with_the_ids() {
+        when(selenium.getEval(anyString())).thenReturn("generation:[[\"option_1\",\"Option\"],[\"option_2\",\"Option\"]]");
+
+        assertArrayEquals(new String[]{"option_1", "option_2"}, evaluator.elementsId("jquery:$('#mySelect option')"));
+        assertEquals(HtmlElementType.Option, evaluator.htmlElementType("option_1"));
+        assertEquals(HtmlElementType.Option, evaluator.htmlElementType("option_2"));
+
+        verify(selenium, times(1)).getEval(contains("$.ops.elements($('#mySelect option'))"));
+        verifyNoMoreInteractions(selenium);
+    }
+
+    @Test
+    public void html_types_are_read_again_after_a_command() {
+        when(selenium.isElementPresent(anyString())).thenReturn(true);
+        when(selenium.getEval(anyString())).thenReturn("generation:\"button\"", "generation:null", "generation:null", "next:\"form\"");
+        Button submit = new Button(evaluator, "go");
+        assertEquals(HtmlElementType.Button, evaluator.htmlElementType("go"));
+
+        // The click submits the form : the new page has a form with the same id
+        evaluator.click(submit, Click.left);
+        assertEquals("go", new Form(evaluator, "go").id());
+
+        verify(selenium, times(2)).getEval(contains("$.ops.htmlType(\"go\")"));
+    }
+
+    @Test
+    public void ids_of_anonymous_elements_are_given_in_the_page() {
+        when(selenium.getEval(anyString())).thenReturn("generation:[[\"_t1\",\"Td\"],[\"cell\",\"Td\"]]");
+
+        assertArrayEquals(new String[]{"_t1", "cell"}, evaluator.elementsId("jquery:$('#myTable td')"));
+
+        verify(selenium, times(1)).getEval(anyString());
+        verifyNoMoreInteractions(selenium);
+    }
+
+    @Test
+    public void elements_are_waited_for_in_the_browser() {
+        when(selenium.getEval(anyString())).thenReturn("generation:[]", "generation:[[\"photo\",\"Img\"]]");
+
+        assertArrayEquals(new String[]{"photo"}, evaluator.waitForElementsId("jquery:$('.photo')", 2000));
+
+        verify(selenium, times(1)).waitForCondition(contains("$('.photo').length>0"), anyString());
+        verify(selenium, times(2)).getEval(contains("$.ops.elements($('.photo'))"));
+        verifyNoMoreInteractions(selenium);
+    }
+
+    @Test
+    public void wait_for_elements_ends_on_timeout() {
+        when(selenium.getEval(anyString())).thenReturn("generation:[]");
+        doThrow(new SeleniumException("Timed out after 2000ms")).when(selenium).waitForCondition(anyString(), anyString());
+
+        assertEquals(0, evaluator.waitForElementsId("missing", 2000).length);
+        verify(selenium, times(1)).waitForCondition(contains("$('#missing').length>0"), anyString());
+    }
+
+    @Test
+    public void option_model_is_read_in_a_single_selenium_command() {
+        when(selenium.getEval(anyString())).thenReturn("generation:[[[\"uk\",\"GB\",\"UK\",\"UK\",true,false,\"\"],"
+                + "[\"it\",\"IT\",\"Italy\",\"Italy\",false,false,\"europe\"]],[\"europe\"]]");
+
+        OptionModel model = evaluator.optionModel("countries");
+
+        assertEquals(Arrays.asList("UK", "Italy"), model.texts());
+        assertEquals(Arrays.asList("UK"), model.selectedTexts());
+        assertEquals("IT", model.options().get(1).value());
+        assertEquals("europe", model.options().get(1).groupId());
+        assertEquals(Arrays.asList("europe"), model.groupIds());
+        assertEquals(HtmlElementType.Option, evaluator.htmlElementType("it"));
+        assertEquals(HtmlElementType.OptionGroup, evaluator.htmlElementType("europe"));
+
+        verify(selenium, times(1)).getEval(contains("$.ops.options(\"countries\")"));
+        verifyNoMoreInteractions(selenium);
+    }
+
+    @Test
+    public void table_is_read_in_a_single_selenium_command() {
+        when(selenium.getEval(anyString())).thenReturn("generation:[[[\"name\",\"Name\"],[\"age\",\"Age\"]],"
+                + "[[\"bob\",[[\"c1\",\"Bob\"],[\"c2\",\"12\"]]],[\"alice\",[[\"c3\",\"Alice\"]]]]]");
+
+        TableModel model = evaluator.tableModel("grid");
+
+        assertEquals(Arrays.asList("Name", "Age"), model.headerTexts());
+        assertEquals(Arrays.asList(Arrays.asList("Bob", "12"), Arrays.asList("Alice")), model.texts());
+        assertEquals(1, model.columnIndex("age"));
+        assertEquals(1, model.rowIndex("alice"));
+        assertEquals("c2", model.column(1).get(0).id());
+        assertEquals(1, model.column(1).size());
+        assertEquals(HtmlElementType.Th, evaluator.htmlElementType("name"));
+        assertEquals(HtmlElementType.Tr, evaluator.htmlElementType("bob"));
+        assertEquals(HtmlElementType.Td, evaluator.htmlElementType("c3"));
+
+        verify(selenium, times(1)).getEval(contains("$.ops.table(\"grid\")"));
+        verifyNoMoreInteractions(selenium);
+    }
+
+    @Test
+    public void rows_of_a_table_are_read_by_pages_when_needed() {
+        when(selenium.isElementPresent(anyString())).thenReturn(true);
+        when(selenium.getEval(anyString())).thenReturn("generation:\"table\"", "generation:[5,[[\"r0\",\"tr\"],[\"r1\",\"tr\"]]]");
+        evaluator.selectionPageSize(2);
+        Table table = new Table(evaluator, "grid");
+
+        Selection<Row> rows = evaluator.rows(table);
+        assertEquals(5, rows.size());
+        assertEquals("r0", rows.get(0).id());
+
+        // Only the first page is read : the selection keeps the paged list
+        verify(selenium, times(1)).getEval(contains("$.ops.range(\"grid\",\"tbody tr\",0,2)"));
+        verify(selenium, times(2)).getEval(anyString());
+    }
+
+    @Test
+    public void states_of_a_component_are_read_in_a_single_selenium_command() {
+        when(selenium.isElementPresent(anyString())).thenReturn(true);
+        when(selenium.getEval(anyString())).thenReturn("generation:7", "generation:\"\"", "generation:15");
+        InputText field = new InputText(evaluator, "name");
+        evaluator.attributeCache().enable();
+
+        assertTrue(evaluator.isVisible(field));
+        assertTrue(evaluator.isEnabled(field));
+        assertFalse(evaluator.isReadOnly(field));
+        assertFalse(evaluator.state(field).hasFocus());
+        verify(selenium, times(1)).getEval(contains("$.ops.state(\"name\")"));
+
+        // The states are read again after a command changing the page
+        evaluator.reset(field);
+        assertTrue(evaluator.isReadOnly(field));
+        verify(selenium, times(2)).getEval(contains("$.ops.state(\"name\")"));
+        verify(selenium, never()).isVisible(anyString());
+        verify(selenium, never()).isEditable(anyString());
+    }
+
+    @Test
+    public void states_are_read_once_for_a_combined_matcher_with_the_cache_disabled() {
+        when(selenium.isElementPresent(anyString())).thenReturn(true);
+        when(selenium.getEval(anyString())).thenReturn("generation:7");
+        InputText field = new InputText(evaluator, "name");
+
+        assertTrue(new SharedStates<Component>(evaluator, allOf(visible(), enabled())).matches(field));
+        verify(selenium, times(1)).getEval(contains("$.ops.state(\"name\")"));
+
+        // Out of the match the states are read again
+        assertTrue(evaluator.isVisible(field));
+        verify(selenium, times(2)).getEval(contains("$.ops.state(\"name\")"));
+        assertFalse(evaluator.attributeCache().isEnabled());
+    }
+
+    @Test
+    public void helpers_are_injected_right_after_opening_a_page() {
+        when(selenium.getEval(anyString())).thenReturn("generation:\"myName\"");
+
+        evaluator.open("Page.html");
+        assertNull(evaluator.generation());
+        assertEquals("myName", evaluator.attribute("myId", Attribute.name));
+        assertEquals("generation", evaluator.generation());
+
+        verify(selenium, times(1)).open("Page.html");
+        verify(selenium, times(1)).runScript(anyString());
+        verify(selenium, times(1)).getEval(anyString());
+        verifyNoMoreInteractions(selenium);
+    }
+
+    @Test
+    public void page_generation_changes_when_helpers_are_injected_in_a_new_page() {
+        when(selenium.getEval(anyString())).thenReturn("generation1:\"myName\"", "__TQUERY_MISSING__", "generation2:\"myName\"");
+
+        evaluator.attribute("myId", Attribute.name);
+        assertEquals("generation1", evaluator.generation());
+        evaluator.attribute("myId", Attribute.name);
+        assertEquals("generation2", evaluator.generation());
+    }
+
+    @Test
+    public void helpers_are_loaded_from_the_script_server_with_a_script_tag() {
+        ScriptServer server = ScriptServer.start();
+        try {
+            evaluator = new SeleniumHtmlEvaluator("evaluator", selenium, server);
+            when(selenium.getEval(anyString())).thenReturn("__TQUERY_MISSING__", "generation:\"myName\"");
+
+            assertEquals("myName", evaluator.attribute("myId", Attribute.name));
+
+            verify(selenium, times(1)).runScript(contains(server.liteUrl()));
+            verify(selenium, times(1)).waitForCondition(anyString(), anyString());
+            verify(selenium, never()).runScript(ScriptBundle.lite());
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    public void helpers_are_injected_inline_once_the_script_server_cannot_be_reached() {
+        ScriptServer server = ScriptServer.start();
+        try {
+            evaluator = new SeleniumHtmlEvaluator("evaluator", selenium, server);
+            when(selenium.getEval(anyString())).thenReturn("__TQUERY_MISSING__", "generation1:\"myName\"", "__TQUERY_MISSING__", "generation2:\"myName\"");
+            doThrow(new SeleniumException("Timed out after 2000ms")).when(selenium).waitForCondition(anyString(), anyString());
+
+            assertEquals("myName", evaluator.attribute("myId", Attribute.name));
+            assertEquals("myName", evaluator.attribute("myId", Attribute.name));
+
+            // The script server is probed once with a short timeout, the next pages get the scripts inline
+            verify(selenium, times(1)).runScript(contains(server.liteUrl()));
+            verify(selenium, times(1)).waitForCondition(anyString(), eq("2000"));
+            verify(selenium, times(2)).runScript(ScriptBundle.lite());
+        } finally {
+            server.stop();
+        }
+    }
+
+    private Matcher<Component> visible() {
+        return new TypeSafeMatcher<Component>() {
+            public boolean matchesSafely(Component component) {
+                return evaluator.isVisible(component);
+            }
+
+            public void describeTo(Description description) {
+                description.appendText("visible");
+            }
+        };
+    }
+
+    private Matcher<Component> enabled() {
+        return new TypeSafeMatcher<Component>() {
+            public boolean matchesSafely(Component component) {
+                return evaluator.isEnabled(component);
+            }
+
+            public void describeTo(Description description) {
+                description.appendText("enabled");
+            }
+        };
+    }
+}
@@ -0,0 +1,136 @@
+/**
+ * Copyright (C) 2008 Ovea <dev@testatoo.org>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.testatoo.cartridge.html4.evaluator.webdriver;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Matchers;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.testatoo.cartridge.html4.EvaluatorException;
+import org.testatoo.cartridge.html4.element.Attribute;
+import org.testatoo.cartridge.html4.evaluator.ScriptBundle;
+import org.testatoo.core.ComponentException;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+import static org.testatoo.core.Language.max;
+
+public class WebDriverHtmlEvaluatorTest {
+
+    private WebDriver driver;
+    private JavascriptExecutor executor;
+    private WebDriver.Timeouts timeouts;
+    private WebDriverHtmlEvaluator evaluator;
+
+    @Before
+    public void setUp() {
+        driver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        executor = (JavascriptExecutor) driver;
+        WebDriver.Options options = mock(WebDriver.Options.class);
+        timeouts = mock(WebDriver.Timeouts.class);
+        when(driver.manage()).thenReturn(options);
+        when(options.timeouts()).thenReturn(timeouts);
+        evaluator = new WebDriverHtmlEvaluator(driver);
+    }
+
+    @Test
+    public void operation_arguments_are_sent_as_script_arguments() {
+        when(executor.executeScript(anyString(), Matchers.<Object>anyVararg())).thenReturn(Arrays.asList("generation", "myName"));
+
+        assertEquals("myName", evaluator.attribute("my'\"Id", Attribute.name));
+
+        verify(executor, times(1)).executeScript(anyString(), eq("prop"), eq("my'\"Id"), eq("name"));
+        assertEquals("generation", evaluator.generation());
+    }
+
+    @Test
+    public void missing_tquery_is_injected_then_script_is_executed_again() {
+        when(executor.executeScript(anyString(), Matchers.<Object>anyVararg())).thenReturn("__TQUERY_MISSING__", Arrays.asList("generation", "myName"));
+
+        assertEquals("myName", evaluator.attribute("myId", Attribute.name));
+
+        verify(executor, times(1)).executeScript(ScriptBundle.lite());
+        verify(executor, times(2)).executeScript(anyString(), eq("prop"), eq("myId"), eq("name"));
+    }
+
+    @Test
+    public void presence_is_checked_by_the_driver() {
+        when(driver.findElements(By.id("myId"))).thenReturn(Collections.singletonList(mock(WebElement.class)));
+
+        assertTrue(evaluator.existComponent("myId"));
+
+        verify(executor, never()).executeScript(anyString(), Matchers.<Object>anyVararg());
+    }
+
+    @Test
+    public void elements_are_waited_for_in_the_browser() {
+        when(executor.executeScript(anyString(), Matchers.<Object>anyVararg())).thenReturn(
+                Arrays.asList("generation", Collections.emptyList()),
+                Arrays.asList("generation", Collections.singletonList(Arrays.asList("photo", "Img"))));
+        when(executor.executeAsyncScript(anyString(), Matchers.<Object>anyVararg())).thenReturn(true);
+
+        assertArrayEquals(new String[]{"photo"}, evaluator.waitForElementsId("jquery:$('.photo')", 2000));
+
+        verify(executor, times(1)).executeAsyncScript(contains("$('.photo').length>0"), Matchers.<Object>anyVararg());
+        verify(timeouts, times(1)).setScriptTimeout(anyLong(), eq(MILLISECONDS));
+    }
+
+    @Test
+    public void wait_for_elements_ends_on_timeout_in_the_browser() {
+        when(executor.executeScript(anyString(), Matchers.<Object>anyVararg())).thenReturn(Arrays.asList("generation", Collections.emptyList()));
+        when(executor.executeAsyncScript(anyString(), Matchers.<Object>anyVararg())).thenReturn(false);
+
+        assertEquals(0, evaluator.waitForElementsId("jquery:$('.photo')", 2000).length);
+
+        verify(executor, times(1)).executeAsyncScript(anyString(), Matchers.<Object>anyVararg());
+    }
+
+    @Test
+    public void elements_are_polled_when_the_driver_cannot_wait_in_the_browser() {
+        when(executor.executeScript(anyString(), Matchers.<Object>anyVararg())).thenReturn(Arrays.asList("generation", Collections.emptyList()));
+        when(executor.executeAsyncScript(anyString(), Matchers.<Object>anyVararg())).thenThrow(new WebDriverException("Asynchronous scripts are not supported"));
+
+        assertNull(evaluator.waitForElementsId("jquery:$('.photo')", 2000));
+
+        long start = System.currentTimeMillis();
+        try {
+            org.testatoo.cartridge.html4.By.$(".photo", max(1, SECONDS)).ids(evaluator, max(1, SECONDS), max(200, MILLISECONDS));
+            fail();
+        } catch (ComponentException e) {
+            assertEquals("Cannot find component defined by jQueryExpression=$('.photo')", e.getMessage());
+        }
+        assertTrue(System.currentTimeMillis() - start >= 800);
+
+        // Each wait tries the browser once, then the elements are looked up at each step of the duration
+        verify(executor, times(2)).executeAsyncScript(anyString(), Matchers.<Object>anyVararg());
+        verify(executor, atLeast(5)).executeScript(contains("$.ops.elements($('.photo'))"), Matchers.<Object>anyVararg());
+    }
+
+    @Test(expected = EvaluatorException.class)
+    public void driver_must_execute_javascript() {
+        new WebDriverHtmlEvaluator(mock(WebDriver.class));
+    }
+}
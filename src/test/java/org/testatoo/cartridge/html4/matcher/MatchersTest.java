@@ -17,10 +17,15 @@
 package org.testatoo.cartridge.html4.matcher;
 
 import org.junit.Test;
+import org.testatoo.cartridge.html4.HtmlEvaluator;
+import org.testatoo.cartridge.html4.element.Form;
+import org.testatoo.core.component.Component;
 
 import static org.junit.Assert.*;
 import static org.testatoo.cartridge.html4.Language.assertThat;
 import static org.testatoo.cartridge.html4.Language.*;
+import static org.mockito.Mockito.*;
+import static org.testatoo.cartridge.html4.matcher.Matchers.containsAll;
 import static org.testatoo.cartridge.html4.matcher.Matchers.has;
 import static org.testatoo.cartridge.html4.matcher.mock.MockFactory.*;
 
@@ -62,6 +67,24 @@ public class MatchersTest {
         }
     }
 
+    @Test
+    public void test_containedComponents_matcher() {
+        HtmlEvaluator<?> evaluator = mock(HtmlEvaluator.class);
+        when(evaluator.existComponent(any(String.class))).thenReturn(true);
+        Component field = new Component(evaluator, "field");
+        Component missingField = new Component(evaluator, "missingField");
+        Form form = formWithMissingComponent(field, missingField);
+
+        assertThat(form, containsAll(field));
+
+        try {
+            assertThat(form, containsAll(field, missingField));
+            fail();
+        } catch (AssertionError e) {
+            assertTrue(format(e.getMessage()).startsWith("Expected: contains components : [field, missingField], missing : [missingField]"));
+        }
+    }
+
     private static String format(String message) {
         String formatedMessage = message.replace("\n", "");
         formatedMessage = formatedMessage.replace("    ", "");
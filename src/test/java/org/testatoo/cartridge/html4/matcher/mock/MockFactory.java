@@ -23,12 +23,15 @@ import org.testatoo.core.Selection;
 import org.testatoo.core.component.Component;
 import org.testatoo.core.component.ListModel;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+
 import static org.mockito.Mockito.*;
 
 public class MockFactory {
 
     public static Select selectWith2OptionGroups() {
-        HtmlEvaluator evaluator = mock(HtmlEvaluator.class);
+        HtmlEvaluator<?> evaluator = mock(HtmlEvaluator.class);
 
         String id = "myId";
         String opt_1_id = "option1";
@@ -69,11 +72,13 @@ public class MockFactory {
 
         Selection<OptionGroup> optionGroups = ListSelection.of(optionGroup_1, optionGroup_2);
         when(evaluator.optionGroups(any(Select.class))).thenReturn(optionGroups);
+
+        when(evaluator.optionModel(id)).thenReturn(new OptionModel(new ArrayList<OptionModel.Entry>(), Arrays.asList(optGrp_1_id, optGrp_2_id)));
         return new Select(evaluator, id);
     }
 
     public static Select selectWith3Options() {
-        HtmlEvaluator evaluator = mock(HtmlEvaluator.class);
+        HtmlEvaluator<?> evaluator = mock(HtmlEvaluator.class);
 
         String id = "myId";
         String opt_1_id = "option1";
@@ -112,7 +117,26 @@ public class MockFactory {
         Selection<Option> options = ListSelection.of(option_1, option_2, option_3);
         when(evaluator.options(any(Select.class))).thenReturn(options);
 
+        when(evaluator.optionModel(id)).thenReturn(new OptionModel(Arrays.asList(
+                new OptionModel.Entry(opt_1_id, "UK", "UK", "label", true, false, ""),
+                new OptionModel.Entry(opt_2_id, "Canada", "Canada", "label", false, false, ""),
+                new OptionModel.Entry(opt_3_id, "Italy", "Italy", "label", true, false, "")), new ArrayList<String>()));
+
         return new Select(evaluator, id);
     }
 
+    public static Form formWithMissingComponent(Component field, Component missingField) {
+        HtmlEvaluator<?> evaluator = mock(HtmlEvaluator.class);
+
+        String id = "myForm";
+
+        when(evaluator.existComponent(any(String.class))).thenReturn(true);
+        when(evaluator.htmlElementType(id)).thenReturn(HtmlElementType.Form);
+
+        Form form = new Form(evaluator, id);
+        when(evaluator.missing(form, field)).thenReturn(new ArrayList<Component>());
+        when(evaluator.missing(form, field, missingField)).thenReturn(Arrays.asList(missingField));
+        return form;
+    }
+
 }